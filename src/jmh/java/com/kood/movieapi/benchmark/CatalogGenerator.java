@@ -0,0 +1,142 @@
+package com.kood.movieapi.benchmark;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kood.movieapi.dto.ImportResult;
+import com.kood.movieapi.entity.Actor;
+import com.kood.movieapi.entity.Genre;
+import com.kood.movieapi.repository.ActorRepository;
+import com.kood.movieapi.repository.GenreRepository;
+import com.kood.movieapi.service.MovieImportService;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+// Builds target/benchmarks/catalog-<movies>.db from a fixed seed, scaled up from sample-data:
+// the six sample genres, movies/20 actors named after the sample actors, and titles made of
+// words from the sample titles. The same size always yields the same catalog, so results of
+// separate runs are comparable. Catalogs are kept and reused; delete the file to rebuild it.
+final class CatalogGenerator {
+
+    static final Path DIRECTORY = Path.of("target", "benchmarks");
+    private static final Path SAMPLE_DATA = Path.of("sample-data");
+    private static final long SEED = 42;
+
+    private CatalogGenerator() {
+    }
+
+    static Path catalog(int movies) throws IOException {
+        Path catalog = DIRECTORY.resolve("catalog-" + movies + ".db");
+        if (Files.exists(catalog)) {
+            return catalog;
+        }
+        Files.createDirectories(DIRECTORY);
+        // Built under a temporary name so an interrupted run never leaves a partial catalog behind.
+        Path partial = DIRECTORY.resolve("catalog-" + movies + ".partial.db");
+        CatalogState.deleteDatabase(partial);
+        long start = System.nanoTime();
+        try (ConfigurableApplicationContext context = CatalogState.start(partial)) {
+            generate(context, movies);
+        }
+        Files.move(partial, catalog, StandardCopyOption.REPLACE_EXISTING);
+        System.out.printf("Generated %s in %d s%n", catalog, (System.nanoTime() - start) / 1_000_000_000);
+        return catalog;
+    }
+
+    private static void generate(ConfigurableApplicationContext context, int movies) throws IOException {
+        ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+        JsonNode sampleGenres = objectMapper.readTree(SAMPLE_DATA.resolve("genres.json").toFile());
+        JsonNode sampleActors = objectMapper.readTree(SAMPLE_DATA.resolve("actors.json").toFile());
+        JsonNode sampleMovies = objectMapper.readTree(SAMPLE_DATA.resolve("movies.json").toFile());
+        Random random = new Random(SEED);
+
+        List<Genre> genres = new ArrayList<>();
+        for (JsonNode sample : sampleGenres) {
+            Genre genre = new Genre();
+            genre.setName(sample.get("name").asText());
+            genres.add(genre);
+        }
+        List<Long> genreIds = context.getBean(GenreRepository.class).saveAll(genres).stream().map(Genre::getId).toList();
+
+        List<Actor> actors = new ArrayList<>();
+        int actorCount = Math.max(sampleActors.size(), movies / 20);
+        for (int i = 0; i < actorCount; i++) {
+            JsonNode sample = sampleActors.get(i % sampleActors.size());
+            Actor actor = new Actor();
+            actor.setName(i < sampleActors.size() ? sample.get("name").asText() : sample.get("name").asText() + " " + (i / sampleActors.size()));
+            actor.setBirthDate(LocalDate.parse(sample.get("birthDate").asText()).plusDays(random.nextInt(3650) - 1825));
+            actors.add(actor);
+        }
+        List<Long> actorIds = context.getBean(ActorRepository.class).saveAll(actors).stream().map(Actor::getId).toList();
+
+        List<String> words = new ArrayList<>();
+        for (JsonNode sample : sampleMovies) {
+            for (String word : sample.get("title").asText().split("\\s+")) {
+                if (word.length() > 2) {
+                    words.add(word);
+                }
+            }
+        }
+
+        // The import service stream-parses, so the JSON is written to a file rather than held in memory.
+        Path json = DIRECTORY.resolve("catalog-" + movies + ".json");
+        try (OutputStream out = Files.newOutputStream(json);
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.writeStartArray();
+            for (int i = 0; i < movies; i++) {
+                generator.writeStartObject();
+                generator.writeStringField("title", title(random, words, i));
+                generator.writeNumberField("releaseYear", 1950 + random.nextInt(75));
+                generator.writeNumberField("duration", 80 + random.nextInt(100));
+                writeIds(generator, "genres", pick(random, genreIds, 1 + random.nextInt(2)));
+                writeIds(generator, "actors", pick(random, actorIds, 1 + random.nextInt(4)));
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+        }
+        try (InputStream in = Files.newInputStream(json)) {
+            ImportResult result = context.getBean(MovieImportService.class).importMovies(in);
+            if (result.failed() > 0) {
+                throw new IllegalStateException("Catalog import rejected " + result.failed() + " movies: " + result.errors());
+            }
+        } finally {
+            Files.deleteIfExists(json);
+        }
+    }
+
+    private static String title(Random random, List<String> words, int index) {
+        String title = words.get(random.nextInt(words.size())) + " " + words.get(random.nextInt(words.size()));
+        // A numbered sequel every so often keeps titles from repeating too much in large catalogs.
+        return index % 7 == 0 ? title + " " + (2 + index % 5) : title;
+    }
+
+    private static Set<Long> pick(Random random, List<Long> ids, int count) {
+        Set<Long> picked = new LinkedHashSet<>();
+        while (picked.size() < Math.min(count, ids.size())) {
+            picked.add(ids.get(random.nextInt(ids.size())));
+        }
+        return picked;
+    }
+
+    private static void writeIds(JsonGenerator generator, String field, Set<Long> ids) throws IOException {
+        generator.writeArrayFieldStart(field);
+        for (Long id : ids) {
+            generator.writeStartObject();
+            generator.writeNumberField("id", id);
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+    }
+}
@@ -0,0 +1,89 @@
+package com.kood.movieapi.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kood.movieapi.MovieApiApplication;
+import com.kood.movieapi.entity.Movie;
+import com.kood.movieapi.service.MovieService;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+// The application (without the web server) running on a copy of a generated catalog. Each
+// trial gets a fresh copy, so rows written by createMovie and patchMovie never leak into
+// the next trial or the next run.
+@State(Scope.Benchmark)
+public class CatalogState {
+
+    @Param({"10000", "100000", "1000000"})
+    public int movies;
+
+    ConfigurableApplicationContext context;
+    MovieService movieService;
+    ObjectMapper objectMapper;
+    long firstMovieId;
+    long lastMovieId;
+    long firstActorId;
+    long lastActorId;
+    long firstGenreId;
+    long lastGenreId;
+    Page<Movie> page;
+
+    private Path database;
+
+    @Setup(Level.Trial)
+    public void start() throws IOException {
+        Path catalog = CatalogGenerator.catalog(movies);
+        database = CatalogGenerator.DIRECTORY.resolve("trial-" + movies + ".db");
+        deleteDatabase(database);
+        Files.copy(catalog, database, StandardCopyOption.REPLACE_EXISTING);
+
+        context = start(database);
+        movieService = context.getBean(MovieService.class);
+        objectMapper = context.getBean(ObjectMapper.class);
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        firstMovieId = jdbcTemplate.queryForObject("SELECT min(id) FROM movie", Long.class);
+        lastMovieId = jdbcTemplate.queryForObject("SELECT max(id) FROM movie", Long.class);
+        firstActorId = jdbcTemplate.queryForObject("SELECT min(id) FROM actor", Long.class);
+        lastActorId = jdbcTemplate.queryForObject("SELECT max(id) FROM actor", Long.class);
+        firstGenreId = jdbcTemplate.queryForObject("SELECT min(id) FROM genre", Long.class);
+        lastGenreId = jdbcTemplate.queryForObject("SELECT max(id) FROM genre", Long.class);
+        page = movieService.getAllMovies(PageRequest.of(0, 20));
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() throws IOException {
+        context.close();
+        deleteDatabase(database);
+    }
+
+    static ConfigurableApplicationContext start(Path database) {
+        return new SpringApplicationBuilder(MovieApiApplication.class)
+                .web(WebApplicationType.NONE)
+                // Arguments, not builder properties: they must override application.properties.
+                .run("--spring.datasource.url=jdbc:sqlite:" + database,
+                        "--spring.jpa.show-sql=false",
+                        "--spring.main.banner-mode=off",
+                        "--logging.level.root=WARN",
+                        "--logging.level.com.kood.movieapi=WARN");
+    }
+
+    static void deleteDatabase(Path database) throws IOException {
+        Files.deleteIfExists(database);
+        Files.deleteIfExists(Path.of(database + "-wal"));
+        Files.deleteIfExists(Path.of(database + "-shm"));
+    }
+}
@@ -0,0 +1,102 @@
+package com.kood.movieapi.benchmark;
+
+import com.kood.movieapi.entity.Actor;
+import com.kood.movieapi.entity.Genre;
+import com.kood.movieapi.entity.Movie;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hot service paths and the JSON serialization of a page, against generated catalogs of
+ * 10k, 100k and 1M movies (see {@link CatalogGenerator}). Run with
+ * {@code mvn -Pbenchmarks test-compile exec:exec}; pick sizes or methods with
+ * {@code -Djmh.args="-p movies=10000 MovieServiceBenchmark.search"}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+@Warmup(iterations = 5, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class MovieServiceBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+    private static final String[] QUERIES = {
+            "star", "city hope", "neon", "mid", "galaxy drift", "silent witness", "speed", "quantum"
+    };
+
+    // Per-thread, fixed-seed choice of pages, ids and queries so runs replay the same requests.
+    @State(Scope.Thread)
+    public static class Requests {
+        private final SplittableRandom random = new SplittableRandom(7);
+
+        long between(long first, long last) {
+            return random.nextLong(first, last + 1);
+        }
+
+        int nextInt(int bound) {
+            return random.nextInt(bound);
+        }
+    }
+
+    // The first 50 pages: the ones clients actually open, at any catalog size.
+    @Benchmark
+    public Page<Movie> getAllMovies(CatalogState catalog, Requests requests) {
+        return catalog.movieService.getAllMovies(PageRequest.of(requests.nextInt(50), PAGE_SIZE));
+    }
+
+    @Benchmark
+    public Page<Movie> searchMoviesByTitle(CatalogState catalog, Requests requests) {
+        return catalog.movieService.searchMoviesByTitle(QUERIES[requests.nextInt(QUERIES.length)], PageRequest.of(0, PAGE_SIZE));
+    }
+
+    @Benchmark
+    public Page<Movie> moviesByActor(CatalogState catalog, Requests requests) {
+        long actorId = requests.between(catalog.firstActorId, catalog.lastActorId);
+        return catalog.movieService.moviesByActor(actorId, PageRequest.of(0, PAGE_SIZE));
+    }
+
+    @Benchmark
+    public Movie createMovie(CatalogState catalog, Requests requests) {
+        Movie movie = new Movie();
+        movie.setTitle("Benchmark Premiere " + requests.nextInt(1000));
+        movie.setReleaseYear(1950 + requests.nextInt(75));
+        movie.setDuration(80 + requests.nextInt(100));
+        movie.setGenres(new LinkedHashSet<>(List.of(
+                new Genre(requests.between(catalog.firstGenreId, catalog.lastGenreId), null, null))));
+        movie.setActors(new LinkedHashSet<>(List.of(
+                new Actor(requests.between(catalog.firstActorId, catalog.lastActorId), null, null, null))));
+        return catalog.movieService.createMovie(movie);
+    }
+
+    // Changes the duration and swaps the cast for two random actors.
+    @Benchmark
+    public Movie patchMovie(CatalogState catalog, Requests requests) {
+        long movieId = requests.between(catalog.firstMovieId, catalog.lastMovieId);
+        long first = requests.between(catalog.firstActorId, catalog.lastActorId);
+        long second = first == catalog.lastActorId ? catalog.firstActorId : first + 1;
+        return catalog.movieService.patchMovie(movieId, Map.of(
+                "duration", 80 + requests.nextInt(100),
+                "actors", List.of(Map.of("id", first), Map.of("id", second))));
+    }
+
+    // Serialization alone: the page (movies with actors and genres) is loaded once per trial.
+    @Benchmark
+    public byte[] serializePage(CatalogState catalog) throws Exception {
+        return catalog.objectMapper.writeValueAsBytes(catalog.page);
+    }
+}
@@ -0,0 +1,174 @@
+package com.kood.movieapi.benchmark;
+
+import com.kood.movieapi.MovieApiApplication;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HTTP load against the running application, on Tomcat's platform-thread pool and with
+ * spring.threads.virtual.enabled=true, each trial on a fresh copy of a generated catalog. Every
+ * invocation is one request from a mix of paged listings, title search and single-movie reads
+ * with PATCH writes; 400 client threads by default, since more clients than Tomcat's 200 workers
+ * are needed to tell the two modes apart. Reports throughput (requests per ms), the latency distribution
+ * (p50/p99 in the sample-time results) and failed requests (non-2xx, e.g. 503 from a full
+ * BulkheadDataSource) as the {@code failed} counter. The virtual-thread trial needs Java 21 and
+ * fails its setup on older JVMs. Run with
+ * {@code mvn -Pbenchmarks test-compile exec:exec -Djmh.args="ThreadModeBenchmark"}; vary the load with
+ * {@code -t 800 -p writePercent=100 -p coalescePatches=true}.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+@Threads(400)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 4, time = 5)
+public class ThreadModeBenchmark {
+
+    private static final String[] QUERIES = {
+            "star", "city hope", "neon", "mid", "galaxy drift", "silent witness", "speed", "quantum"
+    };
+
+    // The application with its web server on a random port, and one HTTP client shared by all
+    // client threads.
+    @State(Scope.Benchmark)
+    public static class Server {
+
+        @Param({"platform", "virtual"})
+        public String threads;
+
+        @Param({"10000"})
+        public int movies;
+
+        @Param({"10"})
+        public int writePercent;
+
+        @Param({"false"})
+        public boolean coalescePatches;
+
+        String base;
+        HttpClient client;
+        long firstMovieId;
+        long lastMovieId;
+
+        private ConfigurableApplicationContext context;
+        private Path database;
+
+        @Setup(Level.Trial)
+        public void start() throws IOException {
+            boolean virtual = threads.equals("virtual");
+            if (virtual && Runtime.version().feature() < 21) {
+                throw new IllegalStateException("Virtual threads need Java 21, running " + Runtime.version());
+            }
+            Path catalog = CatalogGenerator.catalog(movies);
+            database = CatalogGenerator.DIRECTORY.resolve("threads-" + threads + "-" + movies + ".db");
+            CatalogState.deleteDatabase(database);
+            Files.copy(catalog, database, StandardCopyOption.REPLACE_EXISTING);
+
+            context = new SpringApplicationBuilder(MovieApiApplication.class)
+                    .run("--spring.datasource.url=jdbc:sqlite:" + database,
+                            "--spring.threads.virtual.enabled=" + virtual,
+                            "--movieapi.patch-coalescing.enabled=" + coalescePatches,
+                            "--server.port=0",
+                            "--spring.jpa.show-sql=false",
+                            "--spring.main.banner-mode=off",
+                            "--logging.level.root=WARN",
+                            "--logging.level.com.kood.movieapi=WARN",
+                            "--logging.level.com.kood.movieapi.SlowQuery=ERROR");
+            base = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .build();
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            firstMovieId = jdbcTemplate.queryForObject("SELECT min(id) FROM movie", Long.class);
+            lastMovieId = jdbcTemplate.queryForObject("SELECT max(id) FROM movie", Long.class);
+        }
+
+        @TearDown(Level.Trial)
+        public void stop() throws IOException {
+            context.close();
+            CatalogState.deleteDatabase(database);
+        }
+    }
+
+    // Requests that did not get a 2xx, per iteration. Counted rather than thrown, so a full
+    // bulkhead shows up in the results instead of ending the run.
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Failures {
+        public long failed;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            failed = 0;
+        }
+    }
+
+    // Per-thread, fixed-seed choice of requests so runs replay the same mix.
+    @State(Scope.Thread)
+    public static class Requests {
+        private final SplittableRandom random = new SplittableRandom(7);
+
+        HttpRequest next(Server server) {
+            long id = random.nextLong(server.firstMovieId, server.lastMovieId + 1);
+            if (random.nextInt(100) < server.writePercent) {
+                String patch = "{\"duration\":" + (80 + random.nextInt(100)) + "}";
+                return HttpRequest.newBuilder(URI.create(server.base + "/api/movies/" + id))
+                        .header("Content-Type", "application/json")
+                        .method("PATCH", HttpRequest.BodyPublishers.ofString(patch))
+                        .build();
+            }
+            String path = switch (random.nextInt(3)) {
+                case 0 -> "/api/movies?page=" + random.nextInt(100) + "&size=20";
+                case 1 -> "/api/movies/search?size=20&title="
+                        + URLEncoder.encode(QUERIES[random.nextInt(QUERIES.length)], StandardCharsets.UTF_8);
+                default -> "/api/movies/" + id;
+            };
+            return HttpRequest.newBuilder(URI.create(server.base + path)).GET().build();
+        }
+    }
+
+    @Benchmark
+    public int request(Server server, Requests requests, Failures failures) throws InterruptedException {
+        try {
+            int status = server.client.send(requests.next(server), HttpResponse.BodyHandlers.discarding()).statusCode();
+            if (status >= 300) {
+                failures.failed++;
+            }
+            return status;
+        } catch (IOException ex) {
+            failures.failed++;
+            return 0;
+        }
+    }
+}
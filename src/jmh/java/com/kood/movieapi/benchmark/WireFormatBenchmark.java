@@ -0,0 +1,90 @@
+package com.kood.movieapi.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.kood.movieapi.entity.Movie;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Encode and decode time of a /api/movies page (movies with their actors and genres) in each
+ * wire format the API negotiates, with mappers built the way WireFormatConfig builds them.
+ * Decoding reads into Movie, as a Java client sharing the entity classes would. Payload sizes,
+ * raw and gzipped, are printed once per trial. Run with
+ * {@code mvn -Pbenchmarks test-compile exec:exec -Djmh.args="-p movies=10000 WireFormatBenchmark"}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+@Warmup(iterations = 5, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class WireFormatBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Encoding {
+
+        @Param({"json", "smile", "cbor"})
+        public String format;
+
+        @Param({"20", "100"})
+        public int pageSize;
+
+        ObjectMapper mapper;
+        Page<Movie> page;
+        byte[] encoded;
+
+        @Setup(Level.Trial)
+        public void encode(CatalogState catalog) throws Exception {
+            Jackson2ObjectMapperBuilder builder = catalog.context.getBean(Jackson2ObjectMapperBuilder.class);
+            mapper = switch (format) {
+                case "smile" -> builder.factory(new SmileFactory()).build();
+                case "cbor" -> builder.factory(new CBORFactory()).build();
+                default -> builder.build();
+            };
+            page = catalog.movieService.getAllMovies(PageRequest.of(0, pageSize));
+            encoded = mapper.writeValueAsBytes(page);
+            System.out.printf("%n%s, %d movies: %,d bytes, %,d gzipped%n", format, pageSize, encoded.length, gzipped(encoded));
+        }
+
+        private static int gzipped(byte[] body) throws Exception {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+                gzip.write(body);
+            }
+            return out.size();
+        }
+    }
+
+    // The part of the page body a client reads.
+    public record PageBody(List<Movie> content, long totalElements) {
+    }
+
+    @Benchmark
+    public byte[] encode(Encoding encoding) throws Exception {
+        return encoding.mapper.writeValueAsBytes(encoding.page);
+    }
+
+    @Benchmark
+    public PageBody decode(Encoding encoding) throws Exception {
+        return encoding.mapper.readValue(encoding.encoded, PageBody.class);
+    }
+}
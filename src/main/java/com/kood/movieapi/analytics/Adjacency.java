@@ -0,0 +1,69 @@
+package com.kood.movieapi.analytics;
+
+import java.util.Arrays;
+
+// Mutable adjacency lists over dense node indexes (see IdIndex), each kept sorted and
+// duplicate-free in a primitive array with spare capacity. Not thread-safe.
+final class Adjacency {
+
+    private static final int[] EMPTY = new int[0];
+
+    private int[][] lists = new int[0][];
+    private int[] sizes = new int[0];
+
+    // One past the largest node index that has ever had a list.
+    int nodes() {
+        return sizes.length;
+    }
+
+    int size(int node) {
+        return node < sizes.length ? sizes[node] : 0;
+    }
+
+    // The backing array; only the first size(node) elements are valid.
+    int[] list(int node) {
+        return node < lists.length && lists[node] != null ? lists[node] : EMPTY;
+    }
+
+    boolean contains(int node, int value) {
+        return Arrays.binarySearch(list(node), 0, size(node), value) >= 0;
+    }
+
+    void add(int node, int value) {
+        ensureNode(node);
+        int size = sizes[node];
+        int[] list = lists[node] == null ? EMPTY : lists[node];
+        // Bulk loads arrive in id order, so appending is the common case.
+        int at = size == 0 || list[size - 1] < value ? size : Arrays.binarySearch(list, 0, size, value);
+        if (at >= 0 && at < size) return;
+        int insert = at >= 0 ? at : -at - 1;
+        if (size == list.length) {
+            list = Arrays.copyOf(list, Math.max(4, size + (size >> 1)));
+            lists[node] = list;
+        }
+        System.arraycopy(list, insert, list, insert + 1, size - insert);
+        list[insert] = value;
+        sizes[node] = size + 1;
+    }
+
+    void remove(int node, int value) {
+        int size = size(node);
+        int[] list = list(node);
+        int at = Arrays.binarySearch(list, 0, size, value);
+        if (at < 0) return;
+        System.arraycopy(list, at + 1, list, at, size - at - 1);
+        sizes[node] = size - 1;
+    }
+
+    int[] copy(int node) {
+        return Arrays.copyOf(list(node), size(node));
+    }
+
+    private void ensureNode(int node) {
+        if (node >= sizes.length) {
+            int capacity = Math.max(node + 1, sizes.length + (sizes.length >> 1));
+            lists = Arrays.copyOf(lists, capacity);
+            sizes = Arrays.copyOf(sizes, capacity);
+        }
+    }
+}
@@ -0,0 +1,316 @@
+package com.kood.movieapi.analytics;
+
+import com.kood.movieapi.dto.AnalyticsGroupBy;
+import com.kood.movieapi.dto.MovieFilter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// Column-oriented copy of movie, movie_genre and movie_actor for analytical scans, in a
+// memory-mapped file outside the heap. Row i is the i-th movie by id: years and durations
+// are parallel columns, and a movie's genres (actors) are a CSR adjacency list, the dense
+// indexes genreLinks[genreOffsets[i] .. genreOffsets[i + 1]). Dense indexes map back to ids
+// through genreIds (actorIds), so filters and aggregates are primitive arrays indexed by them
+// and a query allocates nothing per row. A snapshot is immutable; a rebuild maps a new one.
+public final class CatalogSnapshot {
+
+    // Stored for a null release year or duration; never matches a bound and is not aggregated.
+    public static final int NO_VALUE = Integer.MIN_VALUE;
+
+    private static final int MAGIC = 0x4D434154;
+    private static final int HEADER_BYTES = 40;
+
+    private final String version;
+    private final Instant builtAt;
+    private final int movies;
+    private final int minYear;
+    private final int maxYear;
+    private final LongBuffer genreIds;
+    private final LongBuffer actorIds;
+    private final IntBuffer years;
+    private final IntBuffer durations;
+    private final IntBuffer genreOffsets;
+    private final IntBuffer genreLinks;
+    private final IntBuffer actorOffsets;
+    private final IntBuffer actorLinks;
+
+    private CatalogSnapshot(String version, Instant builtAt, ByteBuffer mapped) {
+        this.version = version;
+        this.builtAt = builtAt;
+        IntBuffer header = mapped.slice(0, HEADER_BYTES).order(ByteOrder.nativeOrder()).asIntBuffer();
+        if (header.get(0) != MAGIC) {
+            throw new IllegalStateException("Not a catalog snapshot");
+        }
+        this.movies = header.get(1);
+        int genres = header.get(2);
+        int actors = header.get(3);
+        int genreLinkCount = header.get(4);
+        int actorLinkCount = header.get(5);
+        this.minYear = header.get(6);
+        this.maxYear = header.get(7);
+
+        Columns columns = new Columns(mapped, HEADER_BYTES);
+        this.genreIds = columns.longs(genres);
+        this.actorIds = columns.longs(actors);
+        this.years = columns.ints(movies);
+        this.durations = columns.ints(movies);
+        this.genreOffsets = columns.ints(movies + 1);
+        this.genreLinks = columns.ints(genreLinkCount);
+        this.actorOffsets = columns.ints(movies + 1);
+        this.actorLinks = columns.ints(actorLinkCount);
+    }
+
+    // Writes the columns to `file` and maps it. The mapping stays valid after the file is
+    // deleted, so callers may remove it right away.
+    public static CatalogSnapshot write(Path file, String version, Instant builtAt, Data data) {
+        int movies = data.years().length;
+        long size = HEADER_BYTES
+                + 8L * (data.genreIds().length + data.actorIds().length)
+                + 4L * (2L * movies + 2L * (movies + 1) + data.genreLinks().length + data.actorLinks().length);
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Catalog too large for one snapshot mapping: " + size + " bytes");
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            mapped.slice(0, HEADER_BYTES).order(ByteOrder.nativeOrder()).asIntBuffer()
+                    .put(new int[]{MAGIC, movies, data.genreIds().length, data.actorIds().length,
+                            data.genreLinks().length, data.actorLinks().length, data.minYear(), data.maxYear()});
+            Columns columns = new Columns(mapped, HEADER_BYTES);
+            columns.longs(data.genreIds().length).put(data.genreIds());
+            columns.longs(data.actorIds().length).put(data.actorIds());
+            columns.ints(movies).put(data.years());
+            columns.ints(movies).put(data.durations());
+            columns.ints(movies + 1).put(data.genreOffsets());
+            columns.ints(data.genreLinks().length).put(data.genreLinks());
+            columns.ints(movies + 1).put(data.actorOffsets());
+            columns.ints(data.actorLinks().length).put(data.actorLinks());
+            return new CatalogSnapshot(version, builtAt, mapped.asReadOnlyBuffer());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public String version() {
+        return version;
+    }
+
+    public Instant builtAt() {
+        return builtAt;
+    }
+
+    public int movieCount() {
+        return movies;
+    }
+
+    public Result query(MovieFilter filter, AnalyticsGroupBy groupBy, int limit) {
+        int[] rows = selectByRange(filter);
+        int selected = rows.length;
+        if (!filter.genreIds().isEmpty()) {
+            selected = retainLinked(rows, selected, genreOffsets, genreLinks,
+                    wanted(filter.genreIds(), genreIds), filter.genreMatch());
+        }
+        if (!filter.actorIds().isEmpty()) {
+            selected = retainLinked(rows, selected, actorOffsets, actorLinks,
+                    wanted(filter.actorIds(), actorIds), filter.actorMatch());
+        }
+
+        long timed = 0;
+        long totalDuration = 0;
+        for (int i = 0; i < selected; i++) {
+            int duration = durations.get(rows[i]);
+            if (duration != NO_VALUE) {
+                timed++;
+                totalDuration += duration;
+            }
+        }
+        List<Group> groups = switch (groupBy) {
+            case NONE -> List.of();
+            case YEAR -> groupByYear(rows, selected);
+            case GENRE -> groupByLinks(rows, selected, genreOffsets, genreLinks, genreIds, limit);
+            case ACTOR -> groupByLinks(rows, selected, actorOffsets, actorLinks, actorIds, limit);
+        };
+        return new Result(selected, timed, totalDuration, groups);
+    }
+
+    // First pass over the year and duration columns only; yields the matching row numbers.
+    private int[] selectByRange(MovieFilter filter) {
+        boolean byYear = filter.yearFrom() != null || filter.yearTo() != null;
+        boolean byDuration = filter.minDuration() != null || filter.maxDuration() != null;
+        int yearFrom = filter.yearFrom() != null ? filter.yearFrom() : NO_VALUE + 1;
+        int yearTo = filter.yearTo() != null ? filter.yearTo() : Integer.MAX_VALUE;
+        int minDuration = filter.minDuration() != null ? filter.minDuration() : NO_VALUE + 1;
+        int maxDuration = filter.maxDuration() != null ? filter.maxDuration() : Integer.MAX_VALUE;
+
+        int[] rows = new int[movies];
+        int selected = 0;
+        for (int row = 0; row < movies; row++) {
+            int year = years.get(row);
+            int duration = durations.get(row);
+            boolean match = (!byYear || (year >= yearFrom && year <= yearTo))
+                    & (!byDuration || (duration >= minDuration && duration <= maxDuration));
+            rows[selected] = row;
+            selected += match ? 1 : 0;
+        }
+        return selected == movies ? rows : Arrays.copyOf(rows, selected);
+    }
+
+    // Compacts rows[0..selected) to those linked to any (or all) of the wanted dense indexes.
+    private static int retainLinked(int[] rows, int selected, IntBuffer offsets, IntBuffer links,
+                                    Wanted wanted, MovieFilter.Match match) {
+        int required = match == MovieFilter.Match.ALL ? wanted.requested : 1;
+        if (wanted.found < required) {
+            return 0;
+        }
+        int kept = 0;
+        for (int i = 0; i < selected; i++) {
+            int row = rows[i];
+            int hits = 0;
+            for (int k = offsets.get(row), end = offsets.get(row + 1); k < end; k++) {
+                hits += wanted.flags[links.get(k)] ? 1 : 0;
+            }
+            rows[kept] = row;
+            kept += hits >= required ? 1 : 0;
+        }
+        return kept;
+    }
+
+    private static Wanted wanted(List<Long> ids, LongBuffer denseIds) {
+        boolean[] flags = new boolean[denseIds.limit()];
+        int found = 0;
+        for (Long id : ids) {
+            int index = indexOf(denseIds, id);
+            if (index >= 0) {
+                flags[index] = true;
+                found++;
+            }
+        }
+        return new Wanted(flags, ids.size(), found);
+    }
+
+    private List<Group> groupByYear(int[] rows, int selected) {
+        if (minYear > maxYear) {
+            return List.of();
+        }
+        int span = maxYear - minYear + 1;
+        long[] counts = new long[span];
+        long[] timed = new long[span];
+        long[] totals = new long[span];
+        for (int i = 0; i < selected; i++) {
+            int row = rows[i];
+            int year = years.get(row);
+            if (year == NO_VALUE) continue;
+            int duration = durations.get(row);
+            int slot = year - minYear;
+            counts[slot]++;
+            if (duration != NO_VALUE) {
+                timed[slot]++;
+                totals[slot] += duration;
+            }
+        }
+        List<Group> groups = new ArrayList<>();
+        for (int slot = 0; slot < span; slot++) {
+            if (counts[slot] > 0) {
+                groups.add(new Group(minYear + slot, counts[slot], timed[slot], totals[slot]));
+            }
+        }
+        return groups;
+    }
+
+    // Largest groups first, ties by id; only the top `limit` are materialized.
+    private List<Group> groupByLinks(int[] rows, int selected, IntBuffer offsets, IntBuffer links,
+                                     LongBuffer denseIds, int limit) {
+        int keys = denseIds.limit();
+        int[] counts = new int[keys];
+        int[] timed = new int[keys];
+        long[] totals = new long[keys];
+        for (int i = 0; i < selected; i++) {
+            int row = rows[i];
+            int duration = durations.get(row);
+            for (int k = offsets.get(row), end = offsets.get(row + 1); k < end; k++) {
+                int key = links.get(k);
+                counts[key]++;
+                if (duration != NO_VALUE) {
+                    timed[key]++;
+                    totals[key] += duration;
+                }
+            }
+        }
+        int[] top = TopK.largest(counts, limit);
+        List<Group> groups = new ArrayList<>(top.length);
+        for (int key : top) {
+            groups.add(new Group(denseIds.get(key), counts[key], timed[key], totals[key]));
+        }
+        return groups;
+    }
+
+    private static int indexOf(LongBuffer sortedIds, long id) {
+        int low = 0;
+        int high = sortedIds.limit() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long value = sortedIds.get(mid);
+            if (value < id) {
+                low = mid + 1;
+            } else if (value > id) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    // On-heap columns collected from the database, in the layout described above.
+    public record Data(int[] years, int[] durations, int minYear, int maxYear,
+                       long[] genreIds, int[] genreOffsets, int[] genreLinks,
+                       long[] actorIds, int[] actorOffsets, int[] actorLinks) {
+    }
+
+    // `key` is the year, genre id or actor id; durations only count movies that have one.
+    public record Group(long key, long movieCount, long timedMovies, long totalDuration) {
+    }
+
+    public record Result(long movieCount, long timedMovies, long totalDuration, List<Group> groups) {
+    }
+
+    private record Wanted(boolean[] flags, int requested, int found) {
+    }
+
+    // Hands out consecutive, naturally aligned column views of one mapping.
+    private static final class Columns {
+        private final ByteBuffer buffer;
+        private int position;
+
+        Columns(ByteBuffer buffer, int position) {
+            this.buffer = buffer;
+            this.position = position;
+        }
+
+        LongBuffer longs(int count) {
+            return slice(8 * count).asLongBuffer();
+        }
+
+        IntBuffer ints(int count) {
+            return slice(4 * count).asIntBuffer();
+        }
+
+        private ByteBuffer slice(int bytes) {
+            ByteBuffer slice = buffer.slice(position, bytes).order(ByteOrder.nativeOrder());
+            position += bytes;
+            return slice;
+        }
+    }
+}
@@ -0,0 +1,291 @@
+package com.kood.movieapi.analytics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+// Bipartite index of movie_actor and movie_genre as primitive adjacency lists in both
+// directions (movie -> actors/genres, actor/genre -> movies). Movie, actor and genre ids are
+// mapped to dense indexes (IdIndex), so arrays and per-query scratch space follow the number
+// of linked rows, not the largest id. Answers co-star counts, shortest collaboration paths and
+// similar movies in memory; setMovie keeps it in step with writes. Not thread-safe: callers
+// serialize writes against reads.
+public final class CoStarGraph {
+
+    private final IdIndex movies = new IdIndex();
+    private final IdIndex actors = new IdIndex();
+    private final IdIndex genres = new IdIndex();
+    private final Adjacency movieActors = new Adjacency();
+    private final Adjacency actorMovies = new Adjacency();
+    private final Adjacency movieGenres = new Adjacency();
+    private final Adjacency genreMovies = new Adjacency();
+
+    public void addActorLink(long movieId, long actorId) {
+        int movie = movies.add(movieId);
+        int actor = actors.add(actorId);
+        movieActors.add(movie, actor);
+        actorMovies.add(actor, movie);
+    }
+
+    public void addGenreLink(long movieId, long genreId) {
+        int movie = movies.add(movieId);
+        int genre = genres.add(genreId);
+        movieGenres.add(movie, genre);
+        genreMovies.add(genre, movie);
+    }
+
+    // Replaces a movie's links with the given ones (empty for a deleted movie).
+    public void setMovie(long movieId, long[] actorIds, long[] genreIds) {
+        if (movies.indexOf(movieId) < 0 && actorIds.length == 0 && genreIds.length == 0) return;
+        int movie = movies.add(movieId);
+        replace(movie, indexes(actors, actorIds), movieActors, actorMovies);
+        replace(movie, indexes(genres, genreIds), movieGenres, genreMovies);
+    }
+
+    public long[] moviesOfActor(long actorId) {
+        return ids(movies, actorMovies, actors.indexOf(actorId));
+    }
+
+    public long[] moviesOfGenre(long genreId) {
+        return ids(movies, genreMovies, genres.indexOf(genreId));
+    }
+
+    public int edges() {
+        int edges = 0;
+        for (int movie = 0; movie < movieActors.nodes(); movie++) {
+            edges += movieActors.size(movie);
+        }
+        return edges;
+    }
+
+    // Actors who share a movie with `actorId`, most shared movies first.
+    public List<Ranked> coStars(long actorId, int limit) {
+        int actor = actors.indexOf(actorId);
+        if (actor < 0) return List.of();
+        int[] shared = new int[actors.size()];
+        int[] actorMovieList = actorMovies.list(actor);
+        for (int i = 0, n = actorMovies.size(actor); i < n; i++) {
+            int movie = actorMovieList[i];
+            int[] cast = movieActors.list(movie);
+            for (int j = 0, m = movieActors.size(movie); j < m; j++) {
+                shared[cast[j]]++;
+            }
+        }
+        shared[actor] = 0;
+        List<Ranked> ranked = new ArrayList<>();
+        for (int coStar : TopK.largest(shared, limit)) {
+            ranked.add(new Ranked(actors.id(coStar), shared[coStar], 0, shared[coStar]));
+        }
+        return ranked;
+    }
+
+    // Movies sharing actors or genres with `movieId`, by Jaccard similarity of their combined
+    // actor and genre sets. Only movies sharing at least one of them are scored.
+    public List<Ranked> similarMovies(long movieId, int limit) {
+        int movie = movies.indexOf(movieId);
+        if (movie < 0) return List.of();
+        int[] sharedActors = new int[movies.size()];
+        int[] sharedGenres = new int[movies.size()];
+        int[] touched = new int[64];
+        int touchedCount = 0;
+
+        int[] cast = movieActors.list(movie);
+        for (int i = 0, n = movieActors.size(movie); i < n; i++) {
+            int[] other = actorMovies.list(cast[i]);
+            for (int j = 0, m = actorMovies.size(cast[i]); j < m; j++) {
+                int candidate = other[j];
+                if (sharedActors[candidate]++ == 0 && sharedGenres[candidate] == 0) {
+                    touched = append(touched, touchedCount++, candidate);
+                }
+            }
+        }
+        int[] movieGenreList = movieGenres.list(movie);
+        for (int i = 0, n = movieGenres.size(movie); i < n; i++) {
+            int[] other = genreMovies.list(movieGenreList[i]);
+            for (int j = 0, m = genreMovies.size(movieGenreList[i]); j < m; j++) {
+                int candidate = other[j];
+                if (sharedGenres[candidate]++ == 0 && sharedActors[candidate] == 0) {
+                    touched = append(touched, touchedCount++, candidate);
+                }
+            }
+        }
+
+        int features = movieActors.size(movie) + movieGenres.size(movie);
+        TopK top = new TopK(limit);
+        for (int i = 0; i < touchedCount; i++) {
+            int candidate = touched[i];
+            if (candidate == movie) continue;
+            int shared = sharedActors[candidate] + sharedGenres[candidate];
+            int union = features + movieActors.size(candidate) + movieGenres.size(candidate) - shared;
+            top.offer(TopK.score(shared / (float) union), candidate);
+        }
+        List<Ranked> ranked = new ArrayList<>();
+        for (int candidate : top.indexes()) {
+            int shared = sharedActors[candidate] + sharedGenres[candidate];
+            int union = features + movieActors.size(candidate) + movieGenres.size(candidate) - shared;
+            ranked.add(new Ranked(movies.id(candidate), sharedActors[candidate], sharedGenres[candidate],
+                    shared / (double) union));
+        }
+        return ranked;
+    }
+
+    // Shortest chain actor, movie, actor, ..., movie, actor from `fromId` to `toId`, found by a
+    // breadth-first search from both ends that always grows the smaller frontier. Returns
+    // the actor ids followed by the movie ids linking each consecutive pair, or null when
+    // the two actors are not connected.
+    public Path shortestPath(long fromId, long toId) {
+        if (fromId == toId) {
+            return new Path(List.of(fromId), List.of());
+        }
+        int from = actors.indexOf(fromId);
+        int to = actors.indexOf(toId);
+        if (from < 0 || to < 0) return null;
+        Search forward = new Search(from);
+        Search backward = new Search(to);
+        while (forward.frontierSize > 0 && backward.frontierSize > 0) {
+            Search near = forward.frontierSize <= backward.frontierSize ? forward : backward;
+            Search far = near == forward ? backward : forward;
+            int meet = expand(near, far);
+            if (meet >= 0) {
+                return join(forward, backward, meet);
+            }
+        }
+        return null;
+    }
+
+    // Grows one search by a level. Of the actors where it meets the other search, returns
+    // the one on the shortest overall path (-1 if none).
+    private int expand(Search near, Search far) {
+        int[] next = new int[Math.max(16, near.frontierSize)];
+        int nextSize = 0;
+        int best = -1;
+        int bestLength = Integer.MAX_VALUE;
+        for (int f = 0; f < near.frontierSize; f++) {
+            int actor = near.frontier[f];
+            int[] actorMovieList = actorMovies.list(actor);
+            for (int i = 0, n = actorMovies.size(actor); i < n; i++) {
+                int movie = actorMovieList[i];
+                if (!near.movies.putIfAbsent(movie, 0)) continue;
+                int[] cast = movieActors.list(movie);
+                for (int j = 0, m = movieActors.size(movie); j < m; j++) {
+                    int coStar = cast[j];
+                    if (!near.parents.putIfAbsent(coStar, ((long) actor << 32) | movie)) continue;
+                    next = append(next, nextSize++, coStar);
+                    if (far.parents.containsKey(coStar)) {
+                        int length = far.depth(coStar);
+                        if (length < bestLength) {
+                            best = coStar;
+                            bestLength = length;
+                        }
+                    }
+                }
+            }
+        }
+        near.frontier = next;
+        near.frontierSize = nextSize;
+        return best;
+    }
+
+    private Path join(Search forward, Search backward, int meet) {
+        List<Long> pathActors = new ArrayList<>();
+        List<Long> pathMovies = new ArrayList<>();
+        for (int actor = meet; actor != forward.start; ) {
+            long parent = forward.parents.get(actor);
+            pathMovies.add(movies.id((int) parent));
+            actor = (int) (parent >>> 32);
+            pathActors.add(actors.id(actor));
+        }
+        Collections.reverse(pathActors);
+        Collections.reverse(pathMovies);
+        pathActors.add(actors.id(meet));
+        for (int actor = meet; actor != backward.start; ) {
+            long parent = backward.parents.get(actor);
+            pathMovies.add(movies.id((int) parent));
+            actor = (int) (parent >>> 32);
+            pathActors.add(actors.id(actor));
+        }
+        return new Path(pathActors, pathMovies);
+    }
+
+    private static int[] indexes(IdIndex index, long[] ids) {
+        int[] indexes = new int[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            indexes[i] = index.add(ids[i]);
+        }
+        return indexes;
+    }
+
+    private static long[] ids(IdIndex index, Adjacency adjacency, int node) {
+        if (node < 0) return new long[0];
+        int[] list = adjacency.list(node);
+        long[] ids = new long[adjacency.size(node)];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = index.id(list[i]);
+        }
+        return ids;
+    }
+
+    private static void replace(int movie, int[] wanted, Adjacency forward, Adjacency reverse) {
+        for (int old : forward.copy(movie)) {
+            if (!contains(wanted, old)) {
+                forward.remove(movie, old);
+                reverse.remove(old, movie);
+            }
+        }
+        for (int target : wanted) {
+            if (!forward.contains(movie, target)) {
+                forward.add(movie, target);
+                reverse.add(target, movie);
+            }
+        }
+    }
+
+    private static boolean contains(int[] values, int value) {
+        for (int v : values) {
+            if (v == value) return true;
+        }
+        return false;
+    }
+
+    private static int[] append(int[] values, int at, int value) {
+        if (at == values.length) {
+            values = Arrays.copyOf(values, values.length * 2);
+        }
+        values[at] = value;
+        return values;
+    }
+
+    // `id` is an actor or movie id. For co-stars, `count` is the number of shared movies;
+    // for similar movies, `count` and `secondCount` are the shared actors and genres.
+    public record Ranked(long id, int count, int secondCount, double score) {
+    }
+
+    // actors.get(i) and actors.get(i + 1) both appear in movies.get(i).
+    public record Path(List<Long> actors, List<Long> movies) {
+    }
+
+    // One direction of the path search over actor indexes: each reached actor maps to
+    // (previous actor, movie).
+    private static final class Search {
+        final int start;
+        final IntLongMap parents = new IntLongMap(64);
+        final IntLongMap movies = new IntLongMap(64);
+        int[] frontier;
+        int frontierSize = 1;
+
+        Search(int start) {
+            this.start = start;
+            parents.putIfAbsent(start, 0);
+            frontier = new int[]{start};
+        }
+
+        int depth(int actor) {
+            int depth = 0;
+            for (int a = actor; a != start; a = (int) (parents.get(a) >>> 32)) {
+                depth++;
+            }
+            return depth;
+        }
+    }
+}
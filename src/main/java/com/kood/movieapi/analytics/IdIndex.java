@@ -0,0 +1,71 @@
+package com.kood.movieapi.analytics;
+
+import java.util.Arrays;
+
+// Dense int indexes for positive long ids, in order of first appearance (0, 1, 2, ...), and
+// the id behind each index. Arrays indexed by these grow with the number of distinct ids,
+// however large or sparse the ids are. Indexes are never reused. Not thread-safe.
+final class IdIndex {
+
+    // Open addressing; id 0 marks an empty slot.
+    private long[] keys = new long[16];
+    private int[] indexes = new int[16];
+    private long[] ids = new long[16];
+    private int size;
+
+    int size() {
+        return size;
+    }
+
+    long id(int index) {
+        return ids[index];
+    }
+
+    // -1 when the id has no index.
+    int indexOf(long id) {
+        int slot = slot(keys, id);
+        return keys[slot] == id ? indexes[slot] : -1;
+    }
+
+    // The id's index, assigning the next one if it has none yet.
+    int add(long id) {
+        if (id <= 0) {
+            throw new IllegalArgumentException("Ids must be positive: " + id);
+        }
+        int slot = slot(keys, id);
+        if (keys[slot] == id) return indexes[slot];
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size * 2);
+        }
+        keys[slot] = id;
+        indexes[slot] = size;
+        ids[size] = id;
+        if (++size * 2 > keys.length) {
+            grow();
+        }
+        return size - 1;
+    }
+
+    private static int slot(long[] keys, long id) {
+        int mask = keys.length - 1;
+        int slot = (int) ((id * 0x9E3779B97F4A7C15L) >>> 33) & mask;
+        while (keys[slot] != 0 && keys[slot] != id) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        int[] oldIndexes = indexes;
+        keys = new long[oldKeys.length * 2];
+        indexes = new int[oldKeys.length * 2];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                int slot = slot(keys, oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                indexes[slot] = oldIndexes[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.kood.movieapi.analytics;
+
+// Open-addressing map from non-negative int keys to long values, for search state that touches
+// a small part of a large node space. Keys are stored plus one, so 0 marks an empty slot.
+final class IntLongMap {
+
+    private int[] keys;
+    private long[] values;
+    private int size;
+
+    IntLongMap(int expected) {
+        int capacity = Integer.highestOneBit(Math.max(16, expected * 2) - 1) << 1;
+        keys = new int[capacity];
+        values = new long[capacity];
+    }
+
+    boolean containsKey(int key) {
+        return keys[slot(keys, key + 1)] == key + 1;
+    }
+
+    long get(int key) {
+        int slot = slot(keys, key + 1);
+        return keys[slot] == key + 1 ? values[slot] : -1;
+    }
+
+    // Stores the value unless the key is present; returns whether it was added.
+    boolean putIfAbsent(int key, long value) {
+        int slot = slot(keys, key + 1);
+        if (keys[slot] == key + 1) return false;
+        keys[slot] = key + 1;
+        values[slot] = value;
+        if (++size * 2 > keys.length) {
+            grow();
+        }
+        return true;
+    }
+
+    private static int slot(int[] keys, int key) {
+        int mask = keys.length - 1;
+        int slot = (key * 0x9E3779B9) >>> 1 & mask;
+        while (keys[slot] != 0 && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void grow() {
+        int[] oldKeys = keys;
+        long[] oldValues = values;
+        keys = new int[oldKeys.length * 2];
+        values = new long[oldKeys.length * 2];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                int slot = slot(keys, oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.kood.movieapi.analytics;
+
+import java.util.Arrays;
+
+// Top-k selection without boxing: each candidate is packed into one long (a non-negative int
+// score in the high half, the inverted index in the low half) and kept in a min-heap of size
+// k, so higher scores and then smaller indexes win.
+final class TopK {
+
+    private final long[] heap;
+    private int size;
+
+    TopK(int k) {
+        this.heap = new long[Math.max(0, k)];
+    }
+
+    // Indexes of the k largest non-zero counts, largest first.
+    static int[] largest(int[] counts, int k) {
+        TopK top = new TopK(Math.min(k, counts.length));
+        for (int index = 0; index < counts.length; index++) {
+            if (counts[index] > 0) {
+                top.offer(counts[index], index);
+            }
+        }
+        return top.indexes();
+    }
+
+    // Orders like the float itself for non-negative floats.
+    static int score(float value) {
+        return Float.floatToIntBits(value);
+    }
+
+    void offer(int score, int index) {
+        long packed = ((long) score << 32) | (Integer.MAX_VALUE - index);
+        if (size < heap.length) {
+            heap[size] = packed;
+            siftUp(size++);
+        } else if (size > 0 && packed > heap[0]) {
+            heap[0] = packed;
+            siftDown();
+        }
+    }
+
+    // Indexes in rank order, best first.
+    int[] indexes() {
+        long[] sorted = Arrays.copyOf(heap, size);
+        Arrays.sort(sorted);
+        int[] indexes = new int[size];
+        for (int i = 0; i < size; i++) {
+            indexes[i] = Integer.MAX_VALUE - (int) sorted[size - 1 - i];
+        }
+        return indexes;
+    }
+
+    private void siftUp(int i) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (heap[parent] <= heap[i]) return;
+            swap(parent, i);
+            i = parent;
+        }
+    }
+
+    private void siftDown() {
+        int i = 0;
+        while (true) {
+            int smallest = i;
+            int left = 2 * i + 1;
+            int right = left + 1;
+            if (left < size && heap[left] < heap[smallest]) smallest = left;
+            if (right < size && heap[right] < heap[smallest]) smallest = right;
+            if (smallest == i) return;
+            swap(i, smallest);
+            i = smallest;
+        }
+    }
+
+    private void swap(int i, int j) {
+        long value = heap[i];
+        heap[i] = heap[j];
+        heap[j] = value;
+    }
+}
@@ -0,0 +1,104 @@
+package com.kood.movieapi.config;
+
+import com.kood.movieapi.exception.DatabaseBusyException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Admits at most `permits` connections of one pool at a time, in arrival order, and turns
+// callers away once `maxWaiting` are already queued. Hikari bounds the connections too, but
+// its wait queue is unbounded and unordered: with virtual threads there is no request thread
+// pool in front of it, and thousands of requests would sit on the single writer until they
+// time out. A permit is held from getConnection until the connection is closed.
+public class BulkheadDataSource extends DelegatingDataSource {
+
+    private final String name;
+    private final Semaphore permits;
+    private final int maxWaiting;
+    private final long waitMs;
+
+    public BulkheadDataSource(DataSource target, String name, int permits, int maxWaiting, long waitMs) {
+        super(target);
+        this.name = name;
+        this.permits = new Semaphore(permits, true);
+        this.maxWaiting = maxWaiting;
+        this.waitMs = waitMs;
+    }
+
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("movieapi.sqlite.bulkhead.waiting", permits, Semaphore::getQueueLength)
+                .description("Callers queued for a connection").tag("pool", name).register(registry);
+        Gauge.builder("movieapi.sqlite.bulkhead.available", permits, Semaphore::availablePermits)
+                .description("Connections that can be taken without waiting").tag("pool", name).register(registry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return releasingOnClose(super.getConnection());
+        } catch (SQLException | RuntimeException ex) {
+            permits.release();
+            throw ex;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return releasingOnClose(super.getConnection(username, password));
+        } catch (SQLException | RuntimeException ex) {
+            permits.release();
+            throw ex;
+        }
+    }
+
+    private void acquire() {
+        if (permits.tryAcquire()) {
+            return;
+        }
+        if (permits.getQueueLength() >= maxWaiting) {
+            throw new DatabaseBusyException("Database is busy: " + maxWaiting + " requests already waiting for "
+                    + name + "; retry later");
+        }
+        try {
+            if (!permits.tryAcquire(waitMs, TimeUnit.MILLISECONDS)) {
+                throw new DatabaseBusyException("Database is busy: no " + name + " connection within "
+                        + waitMs + " ms; retry later");
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new DatabaseBusyException("Interrupted while waiting for " + name);
+        }
+    }
+
+    private Connection releasingOnClose(Connection connection) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("close") && released.compareAndSet(false, true)) {
+                        try {
+                            connection.close();
+                        } finally {
+                            permits.release();
+                        }
+                        return null;
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException ex) {
+                        throw ex.getTargetException();
+                    }
+                });
+    }
+}
@@ -0,0 +1,32 @@
+package com.kood.movieapi.config;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.util.Collection;
+
+// Caching runs outside the transaction interceptor: hits never open a transaction,
+// and annotated evictions happen after the write has committed. It sits just inside
+// ServiceMetricsAspect, so the service timings include cache hits.
+// Sizes and TTL come from spring.cache.caffeine.spec.
+@Configuration
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE + 1)
+public class CacheConfig {
+
+    public static final String MOVIES = "movies";
+    public static final String ACTORS = "actors";
+    public static final String GENRES = "genres";
+    public static final String GENRE_LIST = "genreList";
+
+    // Evicts the given keys once the current transaction commits (or right away without one).
+    public static void evictAfterCommit(CacheManager cacheManager, String cacheName, Collection<?> keys) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null || keys.isEmpty()) return;
+        Cache txCache = new TransactionAwareCacheDecorator(cache);
+        keys.forEach(txCache::evict);
+    }
+}
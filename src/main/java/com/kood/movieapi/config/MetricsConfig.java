@@ -0,0 +1,20 @@
+package com.kood.movieapi.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class MetricsConfig implements WebMvcConfigurer {
+
+    private final RequestStatementsInterceptor requestStatementsInterceptor;
+
+    public MetricsConfig(RequestStatementsInterceptor requestStatementsInterceptor) {
+        this.requestStatementsInterceptor = requestStatementsInterceptor;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(requestStatementsInterceptor);
+    }
+}
@@ -0,0 +1,49 @@
+package com.kood.movieapi.config;
+
+import com.kood.movieapi.dto.ImportResult;
+import com.kood.movieapi.service.MovieImportService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+// Startup/CLI loader: java -jar movie-api.jar --movieapi.import.movies-file=sample-data/movies.json
+// Runs after SQLiteSchemaMigrator so the schema is complete before rows are written.
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class MovieImportRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(MovieImportRunner.class);
+
+    private final MovieImportService movieImportService;
+    private final String moviesFile;
+
+    public MovieImportRunner(MovieImportService movieImportService,
+                             @Value("${movieapi.import.movies-file:}") String moviesFile) {
+        this.movieImportService = movieImportService;
+        this.moviesFile = moviesFile;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        if (moviesFile.isBlank()) return;
+
+        log.info("Importing movies from {} ...", moviesFile);
+        long start = System.nanoTime();
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(Path.of(moviesFile)), 1 << 16)) {
+            ImportResult result = movieImportService.importMovies(in);
+            log.info("Imported {} of {} movies from {} in {} ms ({} failed)", result.imported(), result.received(),
+                    moviesFile, (System.nanoTime() - start) / 1_000_000, result.failed());
+            result.errors().stream().limit(20).forEach(e -> log.warn("Record {}: {}", e.index(), e.message()));
+        }
+    }
+}
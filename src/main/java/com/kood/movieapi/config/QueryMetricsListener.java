@@ -0,0 +1,85 @@
+package com.kood.movieapi.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.QueryType;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Sees every JDBC statement, whichever API issued it (Hibernate, JdbcTemplate, the bulk
+// import), through the datasource-proxy wrapper installed by SQLiteDataSourceConfig.
+// Records movieapi.jdbc.statements by statement type, counts statements per thread for
+// RequestStatementsInterceptor, and logs a sample of the statements slower than
+// movieapi.slow-query.threshold-ms. This log replaces spring.jpa.show-sql.
+@Component
+public class QueryMetricsListener implements QueryExecutionListener {
+
+    private static final Logger slowQueryLog = LoggerFactory.getLogger("com.kood.movieapi.SlowQuery");
+    private static final int MAX_LOGGED_SQL = 1000;
+    private static final ThreadLocal<long[]> STATEMENTS = ThreadLocal.withInitial(() -> new long[1]);
+
+    private final long thresholdMs;
+    private final double sampleRate;
+    private final Map<QueryType, Timer> timers = new EnumMap<>(QueryType.class);
+    private final Counter slowStatements;
+
+    public QueryMetricsListener(MeterRegistry meterRegistry,
+                                @Value("${movieapi.slow-query.threshold-ms:200}") long thresholdMs,
+                                @Value("${movieapi.slow-query.sample-rate:1.0}") double sampleRate) {
+        this.thresholdMs = thresholdMs;
+        this.sampleRate = sampleRate;
+        for (QueryType type : QueryType.values()) {
+            timers.put(type, Timer.builder("movieapi.jdbc.statements")
+                    .description("JDBC statement executions; a batch counts once")
+                    .tag("type", type.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+        this.slowStatements = Counter.builder("movieapi.jdbc.slow.statements")
+                .description("Statements slower than movieapi.slow-query.threshold-ms, logged or not")
+                .register(meterRegistry);
+    }
+
+    // Statements executed on the current thread since the last reset.
+    public static long statementCount() {
+        return STATEMENTS.get()[0];
+    }
+
+    public static void resetStatementCount() {
+        STATEMENTS.get()[0] = 0;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        STATEMENTS.get()[0]++;
+        String sql = queryInfoList.isEmpty() ? "" : queryInfoList.get(0).getQuery();
+        long elapsedMs = execInfo.getElapsedTime();
+        timers.get(QueryUtils.getQueryType(sql)).record(elapsedMs, TimeUnit.MILLISECONDS);
+
+        if (elapsedMs >= thresholdMs) {
+            slowStatements.increment();
+            if (sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate) {
+                slowQueryLog.warn("Slow statement: {} ms{}{}: {}", elapsedMs,
+                        execInfo.isBatch() ? ", batch of " + execInfo.getBatchSize() : "",
+                        execInfo.isSuccess() ? "" : ", failed",
+                        sql.length() > MAX_LOGGED_SQL ? sql.substring(0, MAX_LOGGED_SQL) + " ..." : sql);
+            }
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.kood.movieapi.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kood.movieapi.dto.ResourceVersion;
+import com.kood.movieapi.service.ResourceVersionService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.GZIPOutputStream;
+
+// Caches the serialized bytes of the hot list endpoints, plus a gzip variant of bodies over
+// min-gzip-bytes. The key is the endpoint, the sorted query parameters, the Accept header, and
+// the catalog version of the tables the endpoint reads (the same version the controllers use
+// for ETags). Any committed write changes that version, so stale entries are never hit again
+// and age out of the size-bounded LRU. A hit costs one catalog_versions lookup and a write of
+// the stored array: no entity loading, no Jackson, no compression. The version is read before
+// the controller runs, so a cached body is never older than its key.
+// Conditional requests bypass the cache; the controllers answer them with 304.
+@Component
+public class ResponseCacheFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(ResponseCacheFilter.class);
+
+    // Cached endpoint -> tables whose catalog version it depends on, as in the controllers.
+    private static final Map<String, String[]> ENDPOINTS = Map.of(
+            "/api/genres", new String[]{"genre"},
+            "/api/actors", new String[]{"actor"},
+            "/api/movies", new String[]{"movie", "actor", "genre"});
+
+    private final ResourceVersionService resourceVersionService;
+    private final boolean enabled;
+    private final int maxEntryBytes;
+    private final int minGzipBytes;
+    private final Cache<String, CachedResponse> cache;
+
+    public ResponseCacheFilter(ResourceVersionService resourceVersionService, MeterRegistry meterRegistry,
+                               @Value("${movieapi.response-cache.enabled:true}") boolean enabled,
+                               @Value("${movieapi.response-cache.max-bytes:67108864}") long maxBytes,
+                               @Value("${movieapi.response-cache.max-entry-bytes:1048576}") int maxEntryBytes,
+                               @Value("${movieapi.response-cache.min-gzip-bytes:1024}") int minGzipBytes) {
+        this.resourceVersionService = resourceVersionService;
+        this.enabled = enabled;
+        this.maxEntryBytes = maxEntryBytes;
+        this.minGzipBytes = minGzipBytes;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((String key, CachedResponse value) -> value.weight())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "responses");
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled
+                || !HttpMethod.GET.matches(request.getMethod())
+                || !ENDPOINTS.containsKey(request.getRequestURI())
+                || request.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                || request.getHeader(HttpHeaders.IF_MODIFIED_SINCE) != null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String key;
+        try {
+            ResourceVersion version = resourceVersionService.catalogVersion(ENDPOINTS.get(request.getRequestURI()));
+            key = key(request, version);
+        } catch (RuntimeException ex) {
+            // Let the controller produce (and report) the failure.
+            log.debug("Response cache bypassed: {}", ex.getMessage());
+            chain.doFilter(request, response);
+            return;
+        }
+        boolean gzip = acceptsGzip(request);
+        CachedResponse cached = cache.getIfPresent(key);
+        if (cached != null) {
+            write(response, cached, gzip, "hit");
+            return;
+        }
+
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        chain.doFilter(request, wrapper);
+        byte[] body = wrapper.getContentAsByteArray();
+        if (wrapper.getStatus() != HttpServletResponse.SC_OK || body.length > maxEntryBytes
+                || wrapper.getHeader(HttpHeaders.CONTENT_ENCODING) != null || request.isAsyncStarted()) {
+            wrapper.copyBodyToResponse();
+            return;
+        }
+        CachedResponse entry = new CachedResponse(body, body.length >= minGzipBytes ? gzip(body) : null,
+                wrapper.getContentType(), wrapper.getHeader(HttpHeaders.ETAG), wrapper.getHeader(HttpHeaders.LAST_MODIFIED),
+                List.copyOf(wrapper.getHeaders(HttpHeaders.VARY)));
+        cache.put(key, entry);
+        write(response, entry, gzip, "miss");
+    }
+
+    private static String key(HttpServletRequest request, ResourceVersion version) {
+        StringBuilder key = new StringBuilder(version.etag()).append(' ').append(request.getRequestURI()).append('?');
+        new TreeMap<>(request.getParameterMap()).forEach((name, values) ->
+                key.append(name).append('=').append(String.join(",", values)).append('&'));
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        return key.append(' ').append(accept == null ? "*/*" : accept).toString();
+    }
+
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        String accepted = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (accepted == null) return false;
+        for (String coding : accepted.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length == 1 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    private static void write(HttpServletResponse response, CachedResponse entry, boolean gzip, String outcome)
+            throws IOException {
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(entry.contentType());
+        if (entry.lastModified() != null) response.setHeader(HttpHeaders.LAST_MODIFIED, entry.lastModified());
+        if (outcome.equals("hit")) entry.vary().forEach(value -> response.addHeader(HttpHeaders.VARY, value));
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        response.setHeader("X-Response-Cache", outcome);
+        byte[] bytes = entry.body();
+        String etag = entry.etag();
+        if (gzip && entry.gzipped() != null) {
+            bytes = entry.gzipped();
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            // Both encodings carry one validator, which is only allowed for a weak ETag.
+            if (etag != null && !etag.startsWith("W/")) etag = "W/" + etag;
+        }
+        if (etag != null) response.setHeader(HttpHeaders.ETAG, etag);
+        response.setContentLength(bytes.length);
+        response.getOutputStream().write(bytes);
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private record CachedResponse(byte[] body, byte[] gzipped, String contentType, String etag, String lastModified,
+                                  List<String> vary) {
+
+        int weight() {
+            return body.length + (gzipped == null ? 0 : gzipped.length) + 256;
+        }
+    }
+}
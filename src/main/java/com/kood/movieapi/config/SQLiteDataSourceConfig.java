@@ -0,0 +1,121 @@
+package com.kood.movieapi.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.sqlite.SQLiteConfig;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+// SQLite allows one writer at a time. All writes go through a single pooled writer
+// connection, so concurrent writers queue in Hikari instead of failing with SQLITE_BUSY.
+// @Transactional(readOnly = true) work is routed to a pool of query-only connections,
+// which WAL lets run alongside the writer.
+@Configuration
+public class SQLiteDataSourceConfig {
+
+    private static final String READ = "read";
+    private static final String WRITE = "write";
+
+    @Value("${spring.datasource.url}")
+    private String url;
+    @Value("${movieapi.sqlite.busy-timeout-ms:5000}")
+    private int busyTimeoutMs;
+    @Value("${movieapi.sqlite.cache-size-kib:16384}")
+    private int cacheSizeKib;
+    @Value("${movieapi.sqlite.mmap-size:268435456}")
+    private long mmapSize;
+    @Value("${movieapi.sqlite.read-pool-size:8}")
+    private int readPoolSize;
+    @Value("${movieapi.sqlite.writer-wait-ms:30000}")
+    private long writerWaitMs;
+    @Value("${movieapi.sqlite.max-waiting:1000}")
+    private int maxWaiting;
+
+    @Bean(destroyMethod = "close")
+    public HikariDataSource writeDataSource(ObjectProvider<MeterRegistry> meterRegistry) {
+        SQLiteConfig sqlite = baseConfig();
+        sqlite.setJournalMode(SQLiteConfig.JournalMode.WAL);
+
+        HikariConfig hikari = hikariConfig("sqlite-writer", sqlite, meterRegistry);
+        hikari.setMaximumPoolSize(1);
+        hikari.setConnectionTimeout(writerWaitMs);
+        return new HikariDataSource(hikari);
+    }
+
+    @Bean(destroyMethod = "close")
+    public HikariDataSource readDataSource(@Qualifier("writeDataSource") HikariDataSource writeDataSource,
+                                           ObjectProvider<MeterRegistry> meterRegistry) {
+        // The writer is created first so the database is already in WAL mode.
+        HikariConfig hikari = hikariConfig("sqlite-reader", baseConfig(), meterRegistry);
+        hikari.setMaximumPoolSize(readPoolSize);
+        hikari.setConnectionInitSql("PRAGMA query_only = 1");
+        return new HikariDataSource(hikari);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("writeDataSource") HikariDataSource writeDataSource,
+                                 @Qualifier("readDataSource") HikariDataSource readDataSource,
+                                 QueryMetricsListener queryMetricsListener,
+                                 ObjectProvider<MeterRegistry> meterRegistry) {
+        // Bulkheads sized like the pools, so waiting is bounded and in arrival order (see BulkheadDataSource).
+        BulkheadDataSource writer = new BulkheadDataSource(writeDataSource, "sqlite-writer", 1,
+                maxWaiting, writerWaitMs);
+        BulkheadDataSource reader = new BulkheadDataSource(readDataSource, "sqlite-reader", readPoolSize,
+                maxWaiting, readDataSource.getConnectionTimeout());
+        meterRegistry.ifAvailable(registry -> {
+            writer.bindTo(registry);
+            reader.bindTo(registry);
+        });
+
+        AbstractRoutingDataSource routing = new AbstractRoutingDataSource() {
+            @Override
+            protected Object determineCurrentLookupKey() {
+                return TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? READ : WRITE;
+            }
+        };
+        routing.setTargetDataSources(Map.of(READ, reader, WRITE, writer));
+        // Anything outside a read-only transaction (schema update, migrator, lazy loads) writes.
+        routing.setDefaultTargetDataSource(writer);
+        routing.afterPropertiesSet();
+        // The lazy proxy fetches the real connection on the first statement, after the
+        // transaction's read-only flag is known. The outer proxy reports every statement
+        // to QueryMetricsListener.
+        return ProxyDataSourceBuilder.create("movieapi", new LazyConnectionDataSourceProxy(routing))
+                .listener(queryMetricsListener)
+                .build();
+    }
+
+    private SQLiteConfig baseConfig() {
+        SQLiteConfig sqlite = new SQLiteConfig();
+        sqlite.setSynchronous(SQLiteConfig.SynchronousMode.NORMAL);
+        sqlite.setBusyTimeout(busyTimeoutMs);
+        sqlite.setCacheSize(-cacheSizeKib);
+        sqlite.setPragma(SQLiteConfig.Pragma.MMAP_SIZE, Long.toString(mmapSize));
+        return sqlite;
+    }
+
+    private HikariConfig hikariConfig(String poolName, SQLiteConfig sqlite, ObjectProvider<MeterRegistry> meterRegistry) {
+        HikariConfig hikari = new HikariConfig();
+        // Set before the pool starts: Boot's Hikari metrics binder cannot attach to a running pool.
+        meterRegistry.ifAvailable(registry -> hikari.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+        hikari.setPoolName(poolName);
+        hikari.setJdbcUrl(url);
+        hikari.setDriverClassName("org.sqlite.JDBC");
+        hikari.setDataSourceProperties(sqlite.toProperties());
+        return hikari;
+    }
+}
@@ -0,0 +1,65 @@
+package com.kood.movieapi.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+// Size gauges for the SQLite file, read on each scrape. The pragmas run on the reader pool
+// so a scrape never waits for the single writer connection. sqlite-jdbc does not expose
+// sqlite3_db_status, so page-cache hits and misses are not available; the configured
+// cache size per connection is reported instead.
+@Component
+public class SQLiteMetrics implements MeterBinder {
+
+    private final JdbcTemplate reader;
+    private final Path walFile;
+    private final long cacheSizeBytes;
+
+    public SQLiteMetrics(@Qualifier("readDataSource") DataSource readDataSource,
+                         @Value("${spring.datasource.url}") String url,
+                         @Value("${movieapi.sqlite.cache-size-kib:16384}") long cacheSizeKib) {
+        this.reader = new JdbcTemplate(readDataSource);
+        String file = url.replaceFirst("^jdbc:sqlite:", "").replaceFirst("\\?.*$", "");
+        this.walFile = Path.of(file + "-wal");
+        this.cacheSizeBytes = cacheSizeKib * 1024;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("sqlite.database.size", this, m -> m.pragma("page_count") * m.pragma("page_size"))
+                .description("Size of the main database file").baseUnit("bytes").register(registry);
+        Gauge.builder("sqlite.freelist.size", this, m -> m.pragma("freelist_count") * m.pragma("page_size"))
+                .description("Unused pages in the database file").baseUnit("bytes").register(registry);
+        Gauge.builder("sqlite.wal.size", this, SQLiteMetrics::walSize)
+                .description("Size of the write-ahead log").baseUnit("bytes").register(registry);
+        Gauge.builder("sqlite.page.cache.limit", () -> cacheSizeBytes)
+                .description("Page cache size of each connection (movieapi.sqlite.cache-size-kib)").baseUnit("bytes")
+                .register(registry);
+    }
+
+    private double pragma(String name) {
+        try {
+            Long value = reader.queryForObject("PRAGMA " + name, Long.class);
+            return value != null ? value : Double.NaN;
+        } catch (RuntimeException ex) {
+            return Double.NaN;
+        }
+    }
+
+    private double walSize() {
+        try {
+            return Files.exists(walFile) ? Files.size(walFile) : 0;
+        } catch (IOException ex) {
+            return Double.NaN;
+        }
+    }
+}
@@ -3,16 +3,122 @@ package com.kood.movieapi.config;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
+// Schema changes Hibernate's ddl-auto=update does not make: columns added after the fact,
+// full-text indexes and secondary indexes. Each migration runs once and is recorded in
+// schema_migrations. Tables recreated by Hibernate lose their indexes and triggers, so
+// every startup also recreates whatever a recorded migration created but is now missing,
+// and then checks the plans of the hot repository queries.
 @Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
 public class SQLiteSchemaMigrator implements CommandLineRunner {
 
     private static final Logger log = LoggerFactory.getLogger(SQLiteSchemaMigrator.class);
 
+    private record Index(int version, String name, String table, String columns) {
+    }
+
+    private record Migration(int version, String description, Runnable step) {
+    }
+
+    // Current time in epoch milliseconds, as SQL.
+    private static final String NOW_MS = "CAST((julianday('now') - 2440587.5) * 86400000 AS INTEGER)";
+    private static final List<String> VERSIONED_TABLES = List.of("movie", "actor", "genre");
+    private static final List<String> STATS_TRIGGERS = List.of(
+            "stats_movie_ai", "stats_movie_ad", "stats_movie_au_year", "stats_movie_au_duration",
+            "stats_movie_genre_ai", "stats_movie_genre_ad", "stats_movie_actor_ai", "stats_movie_actor_ad",
+            "stats_actor_ai", "stats_actor_ad", "stats_genre_ai", "stats_genre_ad");
+
+    // Recomputes the stats_* tables from the catalog.
+    private static final List<String> STATS_REBUILD = List.of(
+            "DELETE FROM stats_totals",
+            """
+            INSERT INTO stats_totals (name, value)
+            VALUES ('movie', (SELECT count(*) FROM movie)),
+                   ('actor', (SELECT count(*) FROM actor)),
+                   ('genre', (SELECT count(*) FROM genre))
+            """,
+            "DELETE FROM stats_year",
+            """
+            INSERT INTO stats_year (release_year, movie_count)
+            SELECT release_year, count(*) FROM movie WHERE release_year IS NOT NULL GROUP BY release_year
+            """,
+            "DELETE FROM stats_genre",
+            """
+            INSERT INTO stats_genre (genre_id, movie_count, timed_movies, total_duration)
+            SELECT g.id, count(mg.movie_id), count(m.duration), coalesce(sum(m.duration), 0)
+              FROM genre g
+              LEFT JOIN movie_genre mg ON mg.genre_id = g.id
+              LEFT JOIN movie m ON m.id = mg.movie_id
+             GROUP BY g.id
+            """,
+            "DELETE FROM stats_actor",
+            """
+            INSERT INTO stats_actor (actor_id, movie_count)
+            SELECT a.id, count(ma.movie_id) FROM actor a LEFT JOIN movie_actor ma ON ma.actor_id = a.id GROUP BY a.id
+            """);
+
+    private static final List<Index> INDEXES = List.of(
+            // (sort key, id) indexes serving the keyset pagination seeks and their ORDER BY.
+            new Index(4, "idx_movie_release_year_id", "movie", "release_year, id"),
+            new Index(4, "idx_movie_duration_id", "movie", "duration, id"),
+            // Link-table indexes in both directions: filter semi-joins and the delete checks
+            // start from the genre or actor id, association loading starts from the movie id.
+            new Index(5, "idx_movie_genre_genre_movie", "movie_genre", "genre_id, movie_id"),
+            new Index(5, "idx_movie_genre_movie_genre", "movie_genre", "movie_id, genre_id"),
+            new Index(5, "idx_movie_actor_actor_movie", "movie_actor", "actor_id, movie_id"),
+            new Index(5, "idx_movie_actor_movie_actor", "movie_actor", "movie_id, actor_id"),
+            // Title sorts are case-insensitive; replaces the binary idx_movie_title_id.
+            new Index(6, "idx_movie_title_nocase_id", "movie", "title COLLATE NOCASE, id"));
+
+    // Queries that must be answered through an index, in the shape Hibernate and the
+    // filter repository generate them. Literal values keep the planner on the same path.
+    private static final Map<String, String> PLAN_CHECKS = new LinkedHashMap<>();
+
+    static {
+        PLAN_CHECKS.put("MovieRepository.findByActors_Id",
+                "SELECT m.id FROM movie m JOIN movie_actor ma ON m.id = ma.movie_id WHERE ma.actor_id = 1");
+        PLAN_CHECKS.put("MovieRepository.findByGenres_Id",
+                "SELECT m.id FROM movie m JOIN movie_genre mg ON m.id = mg.movie_id WHERE mg.genre_id = 1");
+        PLAN_CHECKS.put("MovieRepository.findByReleaseYear",
+                "SELECT m.id FROM movie m WHERE m.release_year = 2000");
+        PLAN_CHECKS.put("MovieRepository.findWithActorsByIdIn",
+                "SELECT a.id FROM movie m LEFT JOIN movie_actor ma ON m.id = ma.movie_id "
+                        + "LEFT JOIN actor a ON a.id = ma.actor_id WHERE m.id IN (1, 2, 3)");
+        PLAN_CHECKS.put("MovieRepository.findWithGenresByIdIn",
+                "SELECT g.id FROM movie m LEFT JOIN movie_genre mg ON m.id = mg.movie_id "
+                        + "LEFT JOIN genre g ON g.id = mg.genre_id WHERE m.id IN (1, 2, 3)");
+        PLAN_CHECKS.put("Actor delete association check",
+                "SELECT count(*) FROM movie_actor WHERE actor_id = 1");
+        PLAN_CHECKS.put("Genre delete association check",
+                "SELECT count(*) FROM movie_genre WHERE genre_id = 1");
+        PLAN_CHECKS.put("Movie listing sorted by title",
+                "SELECT m.id FROM movie m ORDER BY m.title COLLATE NOCASE ASC, m.id ASC LIMIT 20");
+        PLAN_CHECKS.put("Movie listing filtered by year range",
+                "SELECT m.id FROM movie m WHERE m.release_year >= 1990 AND m.release_year <= 1999 "
+                        + "ORDER BY m.release_year ASC, m.id ASC LIMIT 20");
+        PLAN_CHECKS.put("Movie export, actor merge cursor",
+                "SELECT ma.movie_id, a.id FROM movie_actor ma JOIN actor a ON a.id = ma.actor_id "
+                        + "ORDER BY ma.movie_id, ma.actor_id");
+        PLAN_CHECKS.put("Movie export, genre merge cursor",
+                "SELECT mg.movie_id, g.id FROM movie_genre mg JOIN genre g ON g.id = mg.genre_id "
+                        + "ORDER BY mg.movie_id, mg.genre_id");
+        PLAN_CHECKS.put("StatsService.topActors",
+                "SELECT s.actor_id, a.name FROM stats_actor s JOIN actor a ON a.id = s.actor_id "
+                        + "ORDER BY s.movie_count DESC, s.actor_id LIMIT 10");
+    }
+
     private final JdbcTemplate jdbcTemplate;
 
     public SQLiteSchemaMigrator(JdbcTemplate jdbcTemplate) {
@@ -22,13 +128,105 @@ public class SQLiteSchemaMigrator implements CommandLineRunner {
     @Override
     public void run(String... args) {
         try {
-            ensureMovieReleaseYearColumn();
-            ensureMovieReleaseDateColumn();
+            boolean changed = migrate();
+            changed |= repair();
+            if (changed) {
+                log.info("[SQLiteSchemaMigrator] Running ANALYZE ...");
+                jdbcTemplate.execute("ANALYZE");
+            } else {
+                jdbcTemplate.execute("PRAGMA optimize");
+            }
+            List<String> problems = verifyQueryPlans();
+            if (problems.isEmpty()) {
+                log.info("[SQLiteSchemaMigrator] Query plans of {} repository queries use indexes", PLAN_CHECKS.size());
+            }
+            problems.forEach(problem -> log.warn("[SQLiteSchemaMigrator] {}", problem));
         } catch (Exception ex) {
             log.warn("SQLite schema migration skipped or failed: {}", ex.getMessage());
         }
     }
 
+    private List<Migration> migrations() {
+        List<Migration> migrations = new ArrayList<>();
+        migrations.add(new Migration(1, "movie.release_year column", this::ensureMovieReleaseYearColumn));
+        migrations.add(new Migration(2, "movie.release_date column", this::ensureMovieReleaseDateColumn));
+        migrations.add(new Migration(3, "full-text indexes on movie.title and actor.name", this::ensureFullTextIndexes));
+        migrations.add(new Migration(4, "keyset pagination indexes", () -> createIndexes(4)));
+        migrations.add(new Migration(5, "movie_genre and movie_actor indexes", () -> createIndexes(5)));
+        migrations.add(new Migration(6, "case-insensitive title index", () -> {
+            createIndexes(6);
+            jdbcTemplate.execute("DROP INDEX IF EXISTS idx_movie_title_id");
+        }));
+        migrations.add(new Migration(7, "row versions and catalog_versions", this::ensureVersionTracking));
+        migrations.add(new Migration(8, "aggregate statistics tables", this::ensureStatistics));
+        return migrations;
+    }
+
+    private boolean migrate() {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS schema_migrations ("
+                + "version INTEGER PRIMARY KEY, description TEXT NOT NULL, applied_at TEXT NOT NULL)");
+        Set<Integer> applied = appliedVersions();
+
+        boolean changed = false;
+        for (Migration migration : migrations()) {
+            if (applied.contains(migration.version())) continue;
+            log.info("[SQLiteSchemaMigrator] Applying migration {}: {} ...", migration.version(), migration.description());
+            migration.step().run();
+            jdbcTemplate.update("INSERT INTO schema_migrations (version, description, applied_at) "
+                    + "VALUES (?, ?, datetime('now'))", migration.version(), migration.description());
+            changed = true;
+        }
+        return changed;
+    }
+
+    // Brings back indexes, columns and triggers of applied migrations that disappeared
+    // together with a recreated table.
+    private boolean repair() {
+        Set<Integer> applied = appliedVersions();
+        Set<String> existing = new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT name FROM sqlite_master WHERE type = 'index'", String.class));
+
+        boolean changed = false;
+        for (Index index : INDEXES) {
+            if (applied.contains(index.version()) && !existing.contains(index.name())) {
+                log.warn("[SQLiteSchemaMigrator] Index {} from migration {} is missing; recreating it",
+                        index.name(), index.version());
+                createIndex(index);
+                changed = true;
+            }
+        }
+        if (applied.contains(3)) {
+            changed |= ensureFullTextIndexes();
+        }
+        if (applied.contains(7)) {
+            changed |= ensureVersionTracking();
+        }
+        if (applied.contains(8)) {
+            changed |= ensureStatistics();
+        }
+        return changed;
+    }
+
+    private Set<Integer> appliedVersions() {
+        return new HashSet<>(jdbcTemplate.queryForList("SELECT version FROM schema_migrations", Integer.class));
+    }
+
+    // Problems found in the plans of PLAN_CHECKS: full table scans and sorts that cannot
+    // use an index. Package-private so tests can assert on them.
+    List<String> verifyQueryPlans() {
+        List<String> problems = new ArrayList<>();
+        PLAN_CHECKS.forEach((name, sql) -> {
+            List<String> plan = jdbcTemplate.query("EXPLAIN QUERY PLAN " + sql, (rs, rowNum) -> rs.getString("detail"));
+            for (String step : plan) {
+                boolean fullScan = step.startsWith("SCAN ") && !step.contains(" USING ");
+                if (fullScan || step.contains("TEMP B-TREE FOR ORDER BY")) {
+                    problems.add("Query plan check: " + name + " falls back to '" + step + "' (" + sql + ")");
+                }
+            }
+        });
+        return problems;
+    }
+
     private void ensureMovieReleaseYearColumn() {
         List<String> cols = jdbcTemplate.query(
                 "PRAGMA table_info(movie)",
@@ -64,4 +262,174 @@ public class SQLiteSchemaMigrator implements CommandLineRunner {
             log.debug("[SQLiteSchemaMigrator] Column movie.release_date already exists");
         }
     }
+
+    // Row versions for conditional GETs (see ResourceVersionService), maintained by triggers
+    // so that JPA, the bulk importer and plain SQL all bump them:
+    // - movie/actor/genre get version (incremented on every update) and updated_at (epoch ms),
+    // - adding or removing a movie_actor/movie_genre row counts as an update of the movie,
+    // - catalog_versions holds one version per table, incremented on any change to it.
+    private boolean ensureVersionTracking() {
+        boolean changed = false;
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS catalog_versions ("
+                + "name TEXT PRIMARY KEY, version INTEGER NOT NULL, updated_at INTEGER NOT NULL)");
+        for (String table : VERSIONED_TABLES) {
+            jdbcTemplate.update("INSERT OR IGNORE INTO catalog_versions (name, version, updated_at) VALUES (?, 0, " + NOW_MS + ")", table);
+
+            List<String> cols = jdbcTemplate.query("PRAGMA table_info(" + table + ")", (rs, rowNum) -> rs.getString("name"));
+            if (!cols.contains("version")) {
+                log.info("[SQLiteSchemaMigrator] Adding version tracking columns to {} ...", table);
+                jdbcTemplate.execute("ALTER TABLE " + table + " ADD COLUMN version INTEGER NOT NULL DEFAULT 0");
+                jdbcTemplate.execute("ALTER TABLE " + table + " ADD COLUMN updated_at INTEGER");
+                jdbcTemplate.update("UPDATE " + table + " SET updated_at = " + NOW_MS);
+                // The table was new or recreated: every cached list of it is stale.
+                jdbcTemplate.update("UPDATE catalog_versions SET version = version + 1, updated_at = " + NOW_MS
+                        + " WHERE name = ?", table);
+                changed = true;
+            }
+
+            // The insert trigger's own UPDATE must not count as a change (old.updated_at IS NULL);
+            // the version trigger's UPDATE does not fire it again (new.version <> old.version).
+            createTrigger(table + "_version_ai", "AFTER INSERT ON " + table + " WHEN new.updated_at IS NULL",
+                    "UPDATE " + table + " SET updated_at = " + NOW_MS + " WHERE id = new.id");
+            createTrigger(table + "_version_au", "AFTER UPDATE ON " + table
+                            + " WHEN new.version = old.version AND old.updated_at IS NOT NULL",
+                    "UPDATE " + table + " SET version = old.version + 1, updated_at = " + NOW_MS + " WHERE id = new.id");
+            for (String event : List.of("INSERT", "UPDATE", "DELETE")) {
+                createTrigger(table + "_catalog_a" + Character.toLowerCase(event.charAt(0)), "AFTER " + event + " ON " + table,
+                        "UPDATE catalog_versions SET version = version + 1, updated_at = " + NOW_MS + " WHERE name = '" + table + "'");
+            }
+        }
+        for (String link : List.of("movie_actor", "movie_genre")) {
+            createTrigger(link + "_version_ai", "AFTER INSERT ON " + link,
+                    "UPDATE movie SET version = version + 1, updated_at = " + NOW_MS + " WHERE id = new.movie_id");
+            createTrigger(link + "_version_ad", "AFTER DELETE ON " + link,
+                    "UPDATE movie SET version = version + 1, updated_at = " + NOW_MS + " WHERE id = old.movie_id");
+        }
+        return changed;
+    }
+
+    // Summary tables behind /api/stats (see StatsService), maintained by triggers like the
+    // versions above. Link and movie triggers each add what they know, so the result is the
+    // same whichever of a movie and its links is written or deleted first:
+    // - a movie_genre row counts the movie for its genre, plus its duration if the movie exists,
+    // - a movie row adds its duration to the genres it is already linked to.
+    // Triggers lost with a recreated table mean missed changes, so the tables are rebuilt.
+    private boolean ensureStatistics() {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS stats_totals (name TEXT PRIMARY KEY, value INTEGER NOT NULL)");
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS stats_year ("
+                + "release_year INTEGER PRIMARY KEY, movie_count INTEGER NOT NULL DEFAULT 0)");
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS stats_genre (genre_id INTEGER PRIMARY KEY, "
+                + "movie_count INTEGER NOT NULL DEFAULT 0, timed_movies INTEGER NOT NULL DEFAULT 0, "
+                + "total_duration INTEGER NOT NULL DEFAULT 0)");
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS stats_actor ("
+                + "actor_id INTEGER PRIMARY KEY, movie_count INTEGER NOT NULL DEFAULT 0)");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_stats_actor_count ON stats_actor (movie_count DESC, actor_id)");
+
+        Integer triggers = jdbcTemplate.queryForObject("SELECT count(*) FROM sqlite_master WHERE type = 'trigger' AND name IN ("
+                + String.join(", ", STATS_TRIGGERS.stream().map(t -> "'" + t + "'").toList()) + ")", Integer.class);
+        if (triggers != null && triggers == STATS_TRIGGERS.size()) {
+            log.debug("[SQLiteSchemaMigrator] Statistics tables already in sync");
+            return false;
+        }
+
+        String genreDuration = "UPDATE stats_genre SET total_duration = total_duration %s coalesce(%s.duration, 0), "
+                + "timed_movies = timed_movies %s (%s.duration IS NOT NULL) "
+                + "WHERE genre_id IN (SELECT genre_id FROM movie_genre WHERE movie_id = %s.id)";
+        String yearCount = "INSERT OR IGNORE INTO stats_year (release_year) SELECT %1$s.release_year WHERE %1$s.release_year IS NOT NULL; "
+                + "UPDATE stats_year SET movie_count = movie_count %2$s 1 WHERE release_year = %1$s.release_year";
+        createTrigger("stats_movie_ai", "AFTER INSERT ON movie",
+                "UPDATE stats_totals SET value = value + 1 WHERE name = 'movie'; "
+                        + yearCount.formatted("new", "+") + "; "
+                        + genreDuration.formatted("+", "new", "+", "new", "new"));
+        createTrigger("stats_movie_ad", "AFTER DELETE ON movie",
+                "UPDATE stats_totals SET value = value - 1 WHERE name = 'movie'; "
+                        + yearCount.formatted("old", "-") + "; "
+                        + genreDuration.formatted("-", "old", "-", "old", "old"));
+        createTrigger("stats_movie_au_year", "AFTER UPDATE OF release_year ON movie "
+                        + "WHEN old.release_year IS NOT new.release_year",
+                yearCount.formatted("old", "-") + "; " + yearCount.formatted("new", "+"));
+        createTrigger("stats_movie_au_duration", "AFTER UPDATE OF duration ON movie WHEN old.duration IS NOT new.duration",
+                genreDuration.formatted("-", "old", "-", "old", "old") + "; "
+                        + genreDuration.formatted("+", "new", "+", "new", "new"));
+
+        String linkedDuration = "UPDATE stats_genre SET movie_count = movie_count %1$s 1, "
+                + "total_duration = total_duration %1$s coalesce((SELECT duration FROM movie WHERE id = %2$s.movie_id), 0), "
+                + "timed_movies = timed_movies %1$s coalesce((SELECT duration IS NOT NULL FROM movie WHERE id = %2$s.movie_id), 0) "
+                + "WHERE genre_id = %2$s.genre_id";
+        createTrigger("stats_movie_genre_ai", "AFTER INSERT ON movie_genre",
+                "INSERT OR IGNORE INTO stats_genre (genre_id) VALUES (new.genre_id); " + linkedDuration.formatted("+", "new"));
+        createTrigger("stats_movie_genre_ad", "AFTER DELETE ON movie_genre", linkedDuration.formatted("-", "old"));
+        createTrigger("stats_movie_actor_ai", "AFTER INSERT ON movie_actor",
+                "INSERT OR IGNORE INTO stats_actor (actor_id) VALUES (new.actor_id); "
+                        + "UPDATE stats_actor SET movie_count = movie_count + 1 WHERE actor_id = new.actor_id");
+        createTrigger("stats_movie_actor_ad", "AFTER DELETE ON movie_actor",
+                "UPDATE stats_actor SET movie_count = movie_count - 1 WHERE actor_id = old.actor_id");
+
+        for (String table : List.of("actor", "genre")) {
+            createTrigger("stats_" + table + "_ai", "AFTER INSERT ON " + table,
+                    "UPDATE stats_totals SET value = value + 1 WHERE name = '" + table + "'; "
+                            + "INSERT OR IGNORE INTO stats_" + table + " (" + table + "_id) VALUES (new.id)");
+            createTrigger("stats_" + table + "_ad", "AFTER DELETE ON " + table,
+                    "UPDATE stats_totals SET value = value - 1 WHERE name = '" + table + "'; "
+                            + "DELETE FROM stats_" + table + " WHERE " + table + "_id = old.id");
+        }
+
+        log.info("[SQLiteSchemaMigrator] Rebuilding statistics tables ...");
+        rebuildStatistics(jdbcTemplate);
+        return true;
+    }
+
+    // Also behind POST /api/stats/rebuild (StatsServiceImpl), which runs it in a transaction.
+    public static void rebuildStatistics(JdbcTemplate jdbcTemplate) {
+        STATS_REBUILD.forEach(jdbcTemplate::execute);
+    }
+
+    private void createTrigger(String name, String event, String body) {
+        jdbcTemplate.execute("CREATE TRIGGER IF NOT EXISTS " + name + " " + event + " BEGIN " + body + "; END");
+    }
+
+    private void createIndexes(int version) {
+        INDEXES.stream()
+                .filter(index -> index.version() == version)
+                .forEach(this::createIndex);
+    }
+
+    private void createIndex(Index index) {
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS " + index.name() + " ON " + index.table() + " (" + index.columns() + ")");
+        log.info("[SQLiteSchemaMigrator] Index {} on {}({}) created", index.name(), index.table(), index.columns());
+    }
+
+    private boolean ensureFullTextIndexes() {
+        boolean movies = ensureFullTextIndex("movie_fts", "movie", "title");
+        boolean actors = ensureFullTextIndex("actor_fts", "actor", "name");
+        return movies || actors;
+    }
+
+    // External-content FTS5 index over one text column, kept in sync by triggers.
+    // The triggers disappear whenever the content table is recreated, so a missing
+    // trigger means the index has to be rebuilt from the table.
+    private boolean ensureFullTextIndex(String ftsTable, String table, String column) {
+        jdbcTemplate.execute("CREATE VIRTUAL TABLE IF NOT EXISTS " + ftsTable + " USING fts5(" + column
+                + ", content='" + table + "', content_rowid='id', tokenize='unicode61 remove_diacritics 2')");
+
+        Integer triggers = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM sqlite_master WHERE type = 'trigger' AND name IN (?, ?, ?)",
+                Integer.class, ftsTable + "_ai", ftsTable + "_ad", ftsTable + "_au");
+        if (triggers != null && triggers == 3) {
+            log.debug("[SQLiteSchemaMigrator] Full-text index {} already in sync", ftsTable);
+            return false;
+        }
+
+        log.info("[SQLiteSchemaMigrator] Building full-text index {} on {}.{} ...", ftsTable, table, column);
+        jdbcTemplate.execute("CREATE TRIGGER IF NOT EXISTS " + ftsTable + "_ai AFTER INSERT ON " + table + " BEGIN "
+                + "INSERT INTO " + ftsTable + "(rowid, " + column + ") VALUES (new.id, new." + column + "); END");
+        jdbcTemplate.execute("CREATE TRIGGER IF NOT EXISTS " + ftsTable + "_ad AFTER DELETE ON " + table + " BEGIN "
+                + "INSERT INTO " + ftsTable + "(" + ftsTable + ", rowid, " + column + ") VALUES ('delete', old.id, old." + column + "); END");
+        jdbcTemplate.execute("CREATE TRIGGER IF NOT EXISTS " + ftsTable + "_au AFTER UPDATE OF " + column + " ON " + table + " BEGIN "
+                + "INSERT INTO " + ftsTable + "(" + ftsTable + ", rowid, " + column + ") VALUES ('delete', old.id, old." + column + "); "
+                + "INSERT INTO " + ftsTable + "(rowid, " + column + ") VALUES (new.id, new." + column + "); END");
+        jdbcTemplate.execute("INSERT INTO " + ftsTable + "(" + ftsTable + ") VALUES ('rebuild')");
+        log.info("[SQLiteSchemaMigrator] Full-text index {} built", ftsTable);
+        return true;
+    }
 }
@@ -0,0 +1,16 @@
+package com.kood.movieapi.config;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Ids are assigned in memory before the insert (see SequentialIdGenerator), which keeps
+// Hibernate's JDBC insert batching enabled, unlike GenerationType.IDENTITY.
+@IdGeneratorType(SequentialIdGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface SequentialId {
+}
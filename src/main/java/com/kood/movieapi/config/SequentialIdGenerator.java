@@ -0,0 +1,86 @@
+package com.kood.movieapi.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.HibernateException;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+import org.hibernate.mapping.RootClass;
+
+import java.lang.reflect.Member;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.function.LongSupplier;
+
+// Hands out ids from an in-memory high-water mark seeded once from max(id). This is safe
+// because the application is the only writer of its SQLite file, and it avoids the
+// table-backed generators: those allocate on a second connection in a separate
+// transaction, which deadlocks against SQLite's single writer lock.
+// Bulk JDBC writers reserve whole blocks through reserve() so they never collide with
+// ids handed out to Hibernate.
+public class SequentialIdGenerator implements IdentifierGenerator {
+
+    private final String table;
+    private final String column;
+    private long highWaterMark;
+    private boolean seeded;
+
+    public SequentialIdGenerator(SequentialId config, Member member, CustomIdGeneratorCreationContext context) {
+        RootClass rootClass = context.getRootClass();
+        this.table = rootClass.getTable().getName();
+        this.column = rootClass.getIdentifier().getColumns().get(0).getName();
+    }
+
+    public static SequentialIdGenerator forEntity(EntityManagerFactory entityManagerFactory, Class<?> entityClass) {
+        Object generator = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getMappingMetamodel()
+                .getEntityDescriptor(entityClass)
+                .getGenerator();
+        if (generator instanceof SequentialIdGenerator sequential) {
+            return sequential;
+        }
+        throw new IllegalStateException(entityClass.getSimpleName() + " does not use @SequentialId");
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return reserve(1, () -> maxId(session));
+    }
+
+    // Reserves count consecutive ids and returns the first one.
+    public synchronized long reserve(int count, LongSupplier maxId) {
+        if (!seeded) {
+            highWaterMark = maxId.getAsLong();
+            seeded = true;
+        }
+        long first = highWaterMark + 1;
+        highWaterMark += count;
+        return first;
+    }
+
+    public String getTable() {
+        return table;
+    }
+
+    private long maxId(SharedSessionContractImplementor session) {
+        String sql = "SELECT coalesce(max(" + column + "), 0) FROM " + table;
+        JdbcCoordinator jdbc = session.getJdbcCoordinator();
+        PreparedStatement st = jdbc.getStatementPreparer().prepareStatement(sql);
+        try {
+            ResultSet rs = jdbc.getResultSetReturn().extract(st, sql);
+            try {
+                return rs.next() ? rs.getLong(1) : 0L;
+            } finally {
+                jdbc.getLogicalConnection().getResourceRegistry().release(rs, st);
+            }
+        } catch (SQLException ex) {
+            throw new HibernateException("Could not read the current max id of " + table, ex);
+        } finally {
+            jdbc.getLogicalConnection().getResourceRegistry().release(st);
+            jdbc.afterStatementExecution();
+        }
+    }
+}
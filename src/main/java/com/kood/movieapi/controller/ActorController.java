@@ -1,11 +1,28 @@
 package com.kood.movieapi.controller;
 
+import com.kood.movieapi.dto.ActorSummary;
+import com.kood.movieapi.dto.BatchGetRequest;
+import com.kood.movieapi.dto.BatchGetResult;
+import com.kood.movieapi.dto.CoStar;
+import com.kood.movieapi.dto.CollaborationPath;
+import com.kood.movieapi.dto.ExportFormat;
+import com.kood.movieapi.dto.FieldSelection;
+import com.kood.movieapi.dto.ResourceVersion;
 import com.kood.movieapi.entity.Actor;
+import com.kood.movieapi.pagination.PageLimits;
 import com.kood.movieapi.service.ActorService;
+import com.kood.movieapi.service.CatalogExportService;
+import com.kood.movieapi.service.CoStarService;
+import com.kood.movieapi.service.ResourceVersionService;
 import jakarta.validation.Valid;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Map;
@@ -15,16 +32,72 @@ import java.util.Map;
 public class ActorController {
 
     private final ActorService actorService;
-    public ActorController(ActorService actorService) { this.actorService = actorService; }
+    private final ResourceVersionService resourceVersionService;
+    private final CatalogExportService catalogExportService;
+    private final CoStarService coStarService;
+    public ActorController(ActorService actorService, ResourceVersionService resourceVersionService,
+                           CatalogExportService catalogExportService, CoStarService coStarService) {
+        this.actorService = actorService;
+        this.resourceVersionService = resourceVersionService;
+        this.catalogExportService = catalogExportService;
+        this.coStarService = coStarService;
+    }
 
     @GetMapping
-    public List<Actor> getAllActors(@RequestParam(required = false) String name) {
-        if (name != null) return actorService.actorsByName(name);
-        return actorService.getAllActors();
+    public Page<?> getAllActors(@RequestParam(required = false) String name,
+                                @RequestParam(required = false) String fields,
+                                Pageable pageable,
+                                WebRequest request) {
+        PageLimits.validate(pageable);
+        ResourceVersion version = resourceVersionService.catalogVersion("actor");
+        if (ConditionalGet.notModified(request, version)) return null;
+        if (fields != null) {
+            return actorService.actorSummaries(name, FieldSelection.parse(fields, ActorSummary.FIELDS), pageable);
+        }
+        if (name != null) return actorService.actorsByName(name, pageable);
+        return actorService.getAllActors(pageable);
+    }
+
+    @GetMapping(params = "ids")
+    public BatchGetResult<Actor> getActorsByIds(@RequestParam List<Long> ids,
+                                                @RequestParam(defaultValue = "false") boolean dedupe,
+                                                WebRequest request) {
+        List<Long> requested = new BatchGetRequest(ids, dedupe).requestedIds();
+        ResourceVersion version = resourceVersionService.catalogVersion("actor");
+        if (ConditionalGet.notModified(request, version)) return null;
+        return BatchGetResult.of(requested, actorService.getActorsByIds(requested), "Actor");
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportActors(@RequestParam(defaultValue = "ndjson") String format) {
+        ExportFormat exportFormat = ExportFormat.parse(format);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.contentType()))
+                .body(out -> catalogExportService.exportActors(out, exportFormat));
     }
 
     @GetMapping("/{id}")
-    public Actor getActorById(@PathVariable Long id) { return actorService.getActorById(id); }
+    public Actor getActorById(@PathVariable Long id, WebRequest request) {
+        ResourceVersion version = resourceVersionService.actorVersion(id);
+        if (ConditionalGet.notModified(request, version)) return null;
+        return actorService.getActorById(id);
+    }
+
+    @GetMapping("/{id}/costars")
+    public List<CoStar> getCoStars(@PathVariable Long id, @RequestParam(defaultValue = "10") int limit,
+                                   WebRequest request) {
+        ResourceVersion version = resourceVersionService.catalogVersion("movie", "actor");
+        if (ConditionalGet.notModified(request, version)) return null;
+        return coStarService.coStars(id, limit);
+    }
+
+    @GetMapping("/{fromId}/path/{toId}")
+    public CollaborationPath getCollaborationPath(@PathVariable Long fromId, @PathVariable Long toId,
+                                                  WebRequest request) {
+        ResourceVersion version = resourceVersionService.catalogVersion("movie", "actor");
+        if (ConditionalGet.notModified(request, version)) return null;
+        return coStarService.path(fromId, toId);
+    }
 
     @PostMapping
     public ResponseEntity<Actor> createActor(@Valid @RequestBody Actor actor) {
@@ -44,6 +117,13 @@ public class ActorController {
         return ResponseEntity.noContent().build();
     }
 
+    @DeleteMapping
+    public ResponseEntity<Void> deleteActors(@RequestParam List<Long> ids,
+                                             @RequestParam(name = "force", required = false) String force) {
+        actorService.deleteActors(ids, parseBooleanLenient(force));
+        return ResponseEntity.noContent().build();
+    }
+
     private boolean parseBooleanLenient(String value) {
         if (value == null) return false;
         String v = value.trim().toLowerCase();
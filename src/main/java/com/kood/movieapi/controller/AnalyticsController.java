@@ -0,0 +1,48 @@
+package com.kood.movieapi.controller;
+
+import com.kood.movieapi.dto.AnalyticsGroupBy;
+import com.kood.movieapi.dto.AnalyticsResult;
+import com.kood.movieapi.dto.MovieFilter;
+import com.kood.movieapi.service.AnalyticsService;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/analytics")
+public class AnalyticsController {
+
+    private final AnalyticsService analyticsService;
+    public AnalyticsController(AnalyticsService analyticsService) { this.analyticsService = analyticsService; }
+
+    @GetMapping("/movies")
+    public AnalyticsResult movies(
+            @RequestParam(required = false) List<Long> genre,
+            @RequestParam(defaultValue = "any") String genreMatch,
+            @RequestParam(required = false) List<Long> actor,
+            @RequestParam(defaultValue = "any") String actorMatch,
+            @RequestParam(required = false) Integer year,
+            @RequestParam(required = false) Integer yearFrom,
+            @RequestParam(required = false) Integer yearTo,
+            @RequestParam(required = false) Integer minDuration,
+            @RequestParam(required = false) Integer maxDuration,
+            @RequestParam(defaultValue = "none") String groupBy,
+            @RequestParam(defaultValue = "10") int limit) {
+        if (year != null && (yearFrom != null || yearTo != null)) {
+            throw new IllegalArgumentException("Use either year or yearFrom/yearTo");
+        }
+        MovieFilter filter = new MovieFilter(
+                genre, MovieFilter.Match.parse(genreMatch, "genreMatch"),
+                actor, MovieFilter.Match.parse(actorMatch, "actorMatch"),
+                year != null ? year : yearFrom, year != null ? year : yearTo,
+                minDuration, maxDuration);
+        return analyticsService.movies(filter, AnalyticsGroupBy.parse(groupBy), limit);
+    }
+
+    @PostMapping("/refresh")
+    public AnalyticsResult refresh() { return analyticsService.refresh(); }
+}
@@ -0,0 +1,48 @@
+package com.kood.movieapi.controller;
+
+import com.kood.movieapi.dto.BatchGetRequest;
+import com.kood.movieapi.dto.BatchGetResult;
+import com.kood.movieapi.entity.Actor;
+import com.kood.movieapi.entity.Genre;
+import com.kood.movieapi.entity.Movie;
+import com.kood.movieapi.service.ActorService;
+import com.kood.movieapi.service.GenreService;
+import com.kood.movieapi.service.MovieService;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+// POST forms of GET /api/{movies,actors,genres}?ids=, for id lists too long for a URL.
+// Mapped without a class-level prefix, like MovieImportController.
+@RestController
+public class BatchGetController {
+
+    private final MovieService movieService;
+    private final ActorService actorService;
+    private final GenreService genreService;
+    public BatchGetController(MovieService movieService, ActorService actorService, GenreService genreService) {
+        this.movieService = movieService;
+        this.actorService = actorService;
+        this.genreService = genreService;
+    }
+
+    @PostMapping("/api/movies:batchGet")
+    public BatchGetResult<Movie> getMovies(@RequestBody BatchGetRequest request) {
+        List<Long> ids = request.requestedIds();
+        return BatchGetResult.of(ids, movieService.getMoviesByIds(ids), "Movie");
+    }
+
+    @PostMapping("/api/actors:batchGet")
+    public BatchGetResult<Actor> getActors(@RequestBody BatchGetRequest request) {
+        List<Long> ids = request.requestedIds();
+        return BatchGetResult.of(ids, actorService.getActorsByIds(ids), "Actor");
+    }
+
+    @PostMapping("/api/genres:batchGet")
+    public BatchGetResult<Genre> getGenres(@RequestBody BatchGetRequest request) {
+        List<Long> ids = request.requestedIds();
+        return BatchGetResult.of(ids, genreService.getGenresByIds(ids), "Genre");
+    }
+}
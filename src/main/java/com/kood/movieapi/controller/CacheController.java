@@ -0,0 +1,19 @@
+package com.kood.movieapi.controller;
+
+import com.kood.movieapi.service.CacheStatsService;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/cache")
+public class CacheController {
+
+    private final CacheStatsService cacheStatsService;
+    public CacheController(CacheStatsService cacheStatsService) { this.cacheStatsService = cacheStatsService; }
+
+    @GetMapping("/stats")
+    public Map<String, Map<String, Object>> getCacheStats() { return cacheStatsService.getCacheStats(); }
+}
@@ -0,0 +1,55 @@
+package com.kood.movieapi.controller;
+
+import com.kood.movieapi.dto.ResourceVersion;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
+
+// Answers If-None-Match/If-Modified-Since from a ResourceVersion and sets the validators on the
+// response. The ETag is weak: the same version is served as identity and as gzip (by
+// ResponseCacheFilter or the container), and a strong ETag must differ per encoding.
+// If-None-Match on a GET uses weak comparison, so 304s are unaffected. Smile and CBOR bodies
+// (see WireFormatConfig) get their own ETag, so a JSON validator never revalidates them.
+final class ConditionalGet {
+
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+    // In the order the message converters are tried, JSON first.
+    private static final List<MediaType> FORMATS = List.of(MediaType.APPLICATION_JSON, SMILE, MediaType.APPLICATION_CBOR);
+
+    private ConditionalGet() {
+    }
+
+    static boolean notModified(WebRequest request, ResourceVersion version) {
+        return request.checkNotModified(etag(version, format(request.getHeader(HttpHeaders.ACCEPT))),
+                version.lastModified());
+    }
+
+    private static String etag(ResourceVersion version, MediaType format) {
+        String suffix = format.equals(SMILE) ? "-smile" : format.equals(MediaType.APPLICATION_CBOR) ? "-cbor" : "";
+        return "W/\"" + version.etag() + suffix + "\"";
+    }
+
+    // The format Accept negotiates to: the first one the most preferred accepted type matches.
+    // JSON when there is no usable Accept header.
+    private static MediaType format(String accept) {
+        if (accept == null) return MediaType.APPLICATION_JSON;
+        List<MediaType> accepted;
+        try {
+            accepted = MediaType.parseMediaTypes(accept);
+            MimeTypeUtils.sortBySpecificity(accepted);
+        } catch (IllegalArgumentException ex) {
+            // Malformed or too long: content negotiation rejects it anyway.
+            return MediaType.APPLICATION_JSON;
+        }
+        for (MediaType type : accepted) {
+            if (type.getQualityValue() == 0) continue;
+            for (MediaType format : FORMATS) {
+                if (type.isCompatibleWith(format)) return format;
+            }
+        }
+        return MediaType.APPLICATION_JSON;
+    }
+}
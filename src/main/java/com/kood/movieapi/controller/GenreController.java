@@ -1,12 +1,26 @@
 package com.kood.movieapi.controller;
 
+import com.kood.movieapi.dto.BatchGetRequest;
+import com.kood.movieapi.dto.BatchGetResult;
+import com.kood.movieapi.dto.ExportFormat;
+import com.kood.movieapi.dto.FieldSelection;
+import com.kood.movieapi.dto.GenreSummary;
+import com.kood.movieapi.dto.ResourceVersion;
 import com.kood.movieapi.entity.Genre;
 import com.kood.movieapi.entity.Movie;
+import com.kood.movieapi.pagination.PageLimits;
+import com.kood.movieapi.service.CatalogExportService;
 import com.kood.movieapi.service.GenreService;
+import com.kood.movieapi.service.ResourceVersionService;
 import jakarta.validation.Valid;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Map;
@@ -16,13 +30,47 @@ import java.util.Map;
 public class GenreController {
 
     private final GenreService genreService;
-    public GenreController(GenreService genreService) { this.genreService = genreService; }
+    private final ResourceVersionService resourceVersionService;
+    private final CatalogExportService catalogExportService;
+    public GenreController(GenreService genreService, ResourceVersionService resourceVersionService,
+                           CatalogExportService catalogExportService) {
+        this.genreService = genreService;
+        this.resourceVersionService = resourceVersionService;
+        this.catalogExportService = catalogExportService;
+    }
 
     @GetMapping
-    public List<Genre> getAllGenres() { return genreService.getAllGenres(); }
+    public List<?> getAllGenres(@RequestParam(required = false) String fields, WebRequest request) {
+        ResourceVersion version = resourceVersionService.catalogVersion("genre");
+        if (ConditionalGet.notModified(request, version)) return null;
+        if (fields != null) return genreService.genreSummaries(FieldSelection.parse(fields, GenreSummary.FIELDS));
+        return genreService.getAllGenres();
+    }
+
+    @GetMapping(params = "ids")
+    public BatchGetResult<Genre> getGenresByIds(@RequestParam List<Long> ids,
+                                                @RequestParam(defaultValue = "false") boolean dedupe,
+                                                WebRequest request) {
+        List<Long> requested = new BatchGetRequest(ids, dedupe).requestedIds();
+        ResourceVersion version = resourceVersionService.catalogVersion("genre");
+        if (ConditionalGet.notModified(request, version)) return null;
+        return BatchGetResult.of(requested, genreService.getGenresByIds(requested), "Genre");
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportGenres(@RequestParam(defaultValue = "ndjson") String format) {
+        ExportFormat exportFormat = ExportFormat.parse(format);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.contentType()))
+                .body(out -> catalogExportService.exportGenres(out, exportFormat));
+    }
 
     @GetMapping("/{id}")
-    public Genre getGenreById(@PathVariable Long id) { return genreService.getGenreById(id); }
+    public Genre getGenreById(@PathVariable Long id, WebRequest request) {
+        ResourceVersion version = resourceVersionService.genreVersion(id);
+        if (ConditionalGet.notModified(request, version)) return null;
+        return genreService.getGenreById(id);
+    }
 
     @PostMapping
     public ResponseEntity<Genre> createGenre(@Valid @RequestBody Genre genre) {
@@ -35,8 +83,11 @@ public class GenreController {
     }
 
     @GetMapping("/{id}/movies")
-    public List<Movie> getMoviesInGenre(@PathVariable Long id) {
-        return genreService.moviesInGenre(id);
+    public Page<Movie> getMoviesInGenre(@PathVariable Long id, Pageable pageable, WebRequest request) {
+        PageLimits.validate(pageable);
+        ResourceVersion version = resourceVersionService.catalogVersion("movie", "actor", "genre");
+        if (ConditionalGet.notModified(request, version)) return null;
+        return genreService.moviesInGenre(id, pageable);
     }
 
     @DeleteMapping("/{id}")
@@ -47,6 +98,13 @@ public class GenreController {
         return ResponseEntity.noContent().build();
     }
 
+    @DeleteMapping
+    public ResponseEntity<Void> deleteGenres(@RequestParam List<Long> ids,
+                                             @RequestParam(name = "force", required = false) String force) {
+        genreService.deleteGenres(ids, parseBooleanLenient(force));
+        return ResponseEntity.noContent().build();
+    }
+
     private boolean parseBooleanLenient(String value) {
         if (value == null) return false;
         String v = value.trim().toLowerCase();
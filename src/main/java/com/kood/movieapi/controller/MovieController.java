@@ -1,14 +1,31 @@
 package com.kood.movieapi.controller;
 
+import com.kood.movieapi.dto.BatchGetRequest;
+import com.kood.movieapi.dto.BatchGetResult;
+import com.kood.movieapi.dto.ExportFormat;
+import com.kood.movieapi.dto.FieldSelection;
+import com.kood.movieapi.dto.MovieFilter;
+import com.kood.movieapi.dto.MovieSummary;
+import com.kood.movieapi.dto.ResourceVersion;
+import com.kood.movieapi.dto.SimilarMovie;
 import com.kood.movieapi.entity.Actor;
 import com.kood.movieapi.entity.Movie;
+import com.kood.movieapi.pagination.PageLimits;
+import com.kood.movieapi.service.CatalogExportService;
+import com.kood.movieapi.service.CoStarService;
+import com.kood.movieapi.service.MoviePatchCoalescer;
 import com.kood.movieapi.service.MovieService;
+import com.kood.movieapi.service.ResourceVersionService;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Map;
@@ -18,29 +35,87 @@ import java.util.Map;
 public class MovieController {
 
     private final MovieService movieService;
-    public MovieController(MovieService movieService) { this.movieService = movieService; }
+    private final ResourceVersionService resourceVersionService;
+    private final CatalogExportService catalogExportService;
+    private final MoviePatchCoalescer moviePatchCoalescer;
+    private final CoStarService coStarService;
+    public MovieController(MovieService movieService, ResourceVersionService resourceVersionService,
+                           CatalogExportService catalogExportService, MoviePatchCoalescer moviePatchCoalescer,
+                           CoStarService coStarService) {
+        this.movieService = movieService;
+        this.resourceVersionService = resourceVersionService;
+        this.catalogExportService = catalogExportService;
+        this.moviePatchCoalescer = moviePatchCoalescer;
+        this.coStarService = coStarService;
+    }
 
     @GetMapping
-    public Page<Movie> getAllMovies(
-            @RequestParam(required = false) Long genre,
+    public Slice<?> getAllMovies(
+            @RequestParam(required = false) List<Long> genre,
+            @RequestParam(defaultValue = "any") String genreMatch,
+            @RequestParam(required = false) List<Long> actor,
+            @RequestParam(defaultValue = "any") String actorMatch,
             @RequestParam(required = false) Integer year,
-            @RequestParam(required = false) Long actor,
-            Pageable pageable) {
-        validatePageable(pageable);
-        if (genre != null) return movieService.moviesByGenre(genre, pageable);
-        if (year != null) return movieService.moviesByYear(year, pageable);
-        if (actor != null) return movieService.moviesByActor(actor, pageable);
-        return movieService.getAllMovies(pageable);
+            @RequestParam(required = false) Integer yearFrom,
+            @RequestParam(required = false) Integer yearTo,
+            @RequestParam(required = false) Integer minDuration,
+            @RequestParam(required = false) Integer maxDuration,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) String fields,
+            Pageable pageable,
+            WebRequest request) {
+        PageLimits.validate(pageable);
+        if (year != null && (yearFrom != null || yearTo != null)) {
+            throw new IllegalArgumentException("Use either year or yearFrom/yearTo");
+        }
+        MovieFilter filter = new MovieFilter(
+                genre, MovieFilter.Match.parse(genreMatch, "genreMatch"),
+                actor, MovieFilter.Match.parse(actorMatch, "actorMatch"),
+                year != null ? year : yearFrom, year != null ? year : yearTo,
+                minDuration, maxDuration);
+        ResourceVersion version = resourceVersionService.catalogVersion("movie", "actor", "genre");
+        if (ConditionalGet.notModified(request, version)) return null;
+        if (fields != null) {
+            FieldSelection selection = FieldSelection.parse(fields, MovieSummary.FIELDS);
+            if (after != null) return movieService.movieSummariesAfter(filter, selection, after, pageable);
+            return movieService.findMovieSummaries(filter, selection, pageable);
+        }
+        if (after != null) return movieService.moviesAfter(filter, after, pageable);
+        return movieService.findMovies(filter, pageable);
+    }
+
+    @GetMapping(params = "ids")
+    public BatchGetResult<Movie> getMoviesByIds(@RequestParam List<Long> ids,
+                                                @RequestParam(defaultValue = "false") boolean dedupe,
+                                                WebRequest request) {
+        List<Long> requested = new BatchGetRequest(ids, dedupe).requestedIds();
+        ResourceVersion version = resourceVersionService.catalogVersion("movie", "actor", "genre");
+        if (ConditionalGet.notModified(request, version)) return null;
+        return BatchGetResult.of(requested, movieService.getMoviesByIds(requested), "Movie");
     }
 
     @GetMapping("/search")
-    public Page<Movie> searchMovies(@RequestParam String title, Pageable pageable) {
-        validatePageable(pageable);
+    public Page<Movie> searchMovies(@RequestParam String title, Pageable pageable, WebRequest request) {
+        PageLimits.validate(pageable);
+        ResourceVersion version = resourceVersionService.catalogVersion("movie", "actor", "genre");
+        if (ConditionalGet.notModified(request, version)) return null;
         return movieService.searchMoviesByTitle(title, pageable);
     }
 
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportMovies(@RequestParam(defaultValue = "ndjson") String format) {
+        ExportFormat exportFormat = ExportFormat.parse(format);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.contentType()))
+                .body(out -> catalogExportService.exportMovies(out, exportFormat));
+    }
+
     @GetMapping("/{id}")
-    public Movie getMovieById(@PathVariable Long id) { return movieService.getMovieById(id); }
+    public Movie getMovieById(@PathVariable Long id, WebRequest request) {
+        ResourceVersion version = resourceVersionService.movieVersion(id);
+        if (ConditionalGet.notModified(request, version)) return null;
+        return movieService.getMovieById(id);
+    }
 
     @PostMapping
     public ResponseEntity<Movie> createMovie(@Valid @RequestBody Movie movie) {
@@ -49,14 +124,24 @@ public class MovieController {
 
     @PatchMapping("/{id}")
     public Movie patchMovie(@PathVariable Long id, @RequestBody Map<String,Object> updates) {
-        return movieService.patchMovie(id, updates);
+        return moviePatchCoalescer.patchMovie(id, updates);
     }
 
     @GetMapping("/{movieId}/actors")
-    public List<Actor> actorsInMovie(@PathVariable Long movieId){
-        return movieService.actorsInMovie(movieId);
+    public Page<Actor> actorsInMovie(@PathVariable Long movieId, Pageable pageable, WebRequest request){
+        PageLimits.validate(pageable);
+        ResourceVersion version = resourceVersionService.movieVersion(movieId);
+        if (ConditionalGet.notModified(request, version)) return null;
+        return movieService.actorsInMovie(movieId, pageable);
     }
 
+    @GetMapping("/{id}/similar")
+    public List<SimilarMovie> getSimilarMovies(@PathVariable Long id, @RequestParam(defaultValue = "10") int limit,
+                                               WebRequest request) {
+        ResourceVersion version = resourceVersionService.catalogVersion("movie", "actor", "genre");
+        if (ConditionalGet.notModified(request, version)) return null;
+        return coStarService.similarMovies(id, limit);
+    }
 
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteMovie(@PathVariable Long id,
@@ -64,16 +149,5 @@ public class MovieController {
         movieService.deleteMovie(id);
         return ResponseEntity.noContent().build();
     }
-    private void validatePageable(Pageable pageable) {
-        if (pageable == null) return;
-        int page = pageable.getPageNumber();
-        int size = pageable.getPageSize();
-        if (page < 0) {
-            throw new IllegalArgumentException("Page index must not be negative");
-        }
-        if (size < 1 || size > 100) {
-            throw new IllegalArgumentException("Page size must be between 1 and 100");
-        }
-    }
 }
 
@@ -0,0 +1,23 @@
+package com.kood.movieapi.controller;
+
+import com.kood.movieapi.dto.ImportResult;
+import com.kood.movieapi.service.MovieImportService;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+// Mapped without a class-level prefix: "/api/movies" + ":batch" would otherwise be
+// joined as "/api/movies/:batch".
+@RestController
+public class MovieImportController {
+
+    private final MovieImportService movieImportService;
+    public MovieImportController(MovieImportService movieImportService) { this.movieImportService = movieImportService; }
+
+    @PostMapping("/api/movies:batch")
+    public ImportResult importMovies(InputStream body) throws IOException {
+        return movieImportService.importMovies(body);
+    }
+}
@@ -0,0 +1,43 @@
+package com.kood.movieapi.controller;
+
+import com.kood.movieapi.dto.ActorStats;
+import com.kood.movieapi.dto.CatalogTotals;
+import com.kood.movieapi.dto.GenreStats;
+import com.kood.movieapi.dto.YearStats;
+import com.kood.movieapi.service.StatsService;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/stats")
+public class StatsController {
+
+    private final StatsService statsService;
+    public StatsController(StatsService statsService) { this.statsService = statsService; }
+
+    @GetMapping("/totals")
+    public CatalogTotals getTotals() { return statsService.totals(); }
+
+    @GetMapping("/genres")
+    public List<GenreStats> getGenreStats() { return statsService.genreStats(); }
+
+    @GetMapping("/years")
+    public List<YearStats> getYearStats() { return statsService.yearStats(); }
+
+    @GetMapping("/actors/top")
+    public List<ActorStats> getTopActors(@RequestParam(defaultValue = "10") int limit) {
+        return statsService.topActors(limit);
+    }
+
+    @GetMapping("/actors/{id}")
+    public ActorStats getActorStats(@PathVariable Long id) { return statsService.actorStats(id); }
+
+    @PostMapping("/rebuild")
+    public CatalogTotals rebuild() { return statsService.rebuild(); }
+}
@@ -0,0 +1,4 @@
+package com.kood.movieapi.dto;
+
+public record ActorStats(Long actorId, String name, long movieCount) {
+}
@@ -0,0 +1,12 @@
+package com.kood.movieapi.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ActorSummary(Long id, String name, LocalDate birthDate) {
+
+    public static final List<String> FIELDS = List.of("id", "name", "birthDate");
+}
@@ -0,0 +1,6 @@
+package com.kood.movieapi.dto;
+
+// key is the release year, genre id or actor id; name is null for years and for ids deleted
+// since the snapshot was built. averageDuration is over the movies with a duration.
+public record AnalyticsGroup(long key, String name, long movieCount, Double averageDuration) {
+}
@@ -0,0 +1,17 @@
+package com.kood.movieapi.dto;
+
+import java.util.Locale;
+
+// Grouping of an analytics query: none (totals only), by release year, by genre or by actor.
+public enum AnalyticsGroupBy {
+    NONE, YEAR, GENRE, ACTOR;
+
+    public static AnalyticsGroupBy parse(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid parameter 'groupBy' with value '" + value
+                    + "'; use none, year, genre or actor");
+        }
+    }
+}
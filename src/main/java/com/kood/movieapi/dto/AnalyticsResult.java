@@ -0,0 +1,9 @@
+package com.kood.movieapi.dto;
+
+import java.time.Instant;
+import java.util.List;
+
+// snapshotVersion is the catalog version the snapshot was built from (see catalog_versions).
+public record AnalyticsResult(String snapshotVersion, Instant snapshotBuiltAt, long movieCount,
+                              Double averageDuration, List<AnalyticsGroup> groups) {
+}
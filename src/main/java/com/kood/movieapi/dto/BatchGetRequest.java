@@ -0,0 +1,26 @@
+package com.kood.movieapi.dto;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+
+// Body of POST /api/{movies,actors,genres}:batchGet; GET ...?ids=&dedupe= builds the same request.
+public record BatchGetRequest(List<Long> ids, boolean dedupe) {
+
+    public static final int MAX_IDS = 5000;
+
+    // The ids to answer, in request order; with dedupe, only the first occurrence of each.
+    public List<Long> requestedIds() {
+        if (ids == null || ids.isEmpty()) {
+            throw new IllegalArgumentException("At least one id is required");
+        }
+        if (ids.size() > MAX_IDS) {
+            throw new IllegalArgumentException("At most " + MAX_IDS + " ids can be fetched at once");
+        }
+        if (ids.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("ids must not contain null");
+        }
+        return dedupe ? new ArrayList<>(new LinkedHashSet<>(ids)) : ids;
+    }
+}
@@ -0,0 +1,25 @@
+package com.kood.movieapi.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+import java.util.Map;
+
+// One item per requested id, in request order. Ids that do not exist get status 404 and an
+// error instead of failing the whole batch.
+public record BatchGetResult<T>(int requested, int found, List<Item<T>> items) {
+
+    public static <T> BatchGetResult<T> of(List<Long> ids, Map<Long, T> found, String resource) {
+        List<Item<T>> items = ids.stream()
+                .map(id -> found.containsKey(id)
+                        ? new Item<>(id, 200, found.get(id), null)
+                        : new Item<T>(id, 404, null, resource + " not found with id " + id))
+                .toList();
+        int foundItems = (int) items.stream().filter(item -> item.value() != null).count();
+        return new BatchGetResult<>(items.size(), foundItems, items);
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record Item<T>(long id, int status, T value, String error) {
+    }
+}
@@ -0,0 +1,22 @@
+package com.kood.movieapi.dto;
+
+import java.util.Collection;
+import java.util.List;
+
+// Published by the write services inside their transaction: the movies whose actor or genre
+// links may have changed, and actors or genres deleted together with their links.
+public record CatalogLinksChangedEvent(Collection<Long> movieIds, Collection<Long> actorIds,
+                                       Collection<Long> genreIds) {
+
+    public static CatalogLinksChangedEvent movies(Collection<Long> movieIds) {
+        return new CatalogLinksChangedEvent(movieIds, List.of(), List.of());
+    }
+
+    public static CatalogLinksChangedEvent actors(Collection<Long> actorIds) {
+        return new CatalogLinksChangedEvent(List.of(), actorIds, List.of());
+    }
+
+    public static CatalogLinksChangedEvent genres(Collection<Long> genreIds) {
+        return new CatalogLinksChangedEvent(List.of(), List.of(), genreIds);
+    }
+}
@@ -0,0 +1,4 @@
+package com.kood.movieapi.dto;
+
+public record CatalogTotals(long movies, long actors, long genres) {
+}
@@ -0,0 +1,4 @@
+package com.kood.movieapi.dto;
+
+public record CoStar(Long actorId, String name, long sharedMovies) {
+}
@@ -0,0 +1,7 @@
+package com.kood.movieapi.dto;
+
+import java.util.List;
+
+// actors.get(i) and actors.get(i + 1) both appear in movies.get(i); degrees is movies.size().
+public record CollaborationPath(int degrees, List<ActorSummary> actors, List<MovieSummary> movies) {
+}
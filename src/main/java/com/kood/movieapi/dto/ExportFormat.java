@@ -0,0 +1,27 @@
+package com.kood.movieapi.dto;
+
+import java.util.Locale;
+
+// Body of a catalog export: one JSON object per line, or a single JSON array.
+public enum ExportFormat {
+    NDJSON("application/x-ndjson"),
+    JSON("application/json");
+
+    private final String contentType;
+
+    ExportFormat(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    public static ExportFormat parse(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid parameter 'format' with value '" + value + "'; use ndjson or json");
+        }
+    }
+}
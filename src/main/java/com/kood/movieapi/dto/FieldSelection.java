@@ -0,0 +1,37 @@
+package com.kood.movieapi.dto;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+// Sparse fieldset of a listing (?fields=id,title): the only columns the query selects and
+// the only properties the response carries.
+public record FieldSelection(List<String> names) {
+
+    public static FieldSelection parse(String value, List<String> allowed) {
+        Set<String> requested = new LinkedHashSet<>();
+        for (String part : value.split(",")) {
+            String name = part.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (!allowed.contains(name)) {
+                throw new IllegalArgumentException("Unknown field '" + name + "' in fields; use any of " + allowed);
+            }
+            requested.add(name);
+        }
+        if (requested.isEmpty()) {
+            throw new IllegalArgumentException("fields must name at least one of " + allowed);
+        }
+        return new FieldSelection(List.copyOf(requested));
+    }
+
+    public boolean includes(String name) {
+        return names.contains(name);
+    }
+
+    public FieldSelection with(String... extra) {
+        return new FieldSelection(Stream.concat(names.stream(), Stream.of(extra)).distinct().toList());
+    }
+}
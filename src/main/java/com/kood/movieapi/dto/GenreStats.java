@@ -0,0 +1,5 @@
+package com.kood.movieapi.dto;
+
+// averageDuration is over the movies with a duration; null when none has one.
+public record GenreStats(Long genreId, String name, long movieCount, Double averageDuration) {
+}
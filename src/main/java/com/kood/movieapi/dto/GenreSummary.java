@@ -0,0 +1,11 @@
+package com.kood.movieapi.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record GenreSummary(Long id, String name) {
+
+    public static final List<String> FIELDS = List.of("id", "name");
+}
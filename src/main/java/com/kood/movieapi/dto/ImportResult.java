@@ -0,0 +1,10 @@
+package com.kood.movieapi.dto;
+
+import java.util.List;
+
+public record ImportResult(long received, long imported, long failed, List<ImportError> errors) {
+
+    // index is the zero-based position of the record in the submitted array
+    public record ImportError(long index, String message) {
+    }
+}
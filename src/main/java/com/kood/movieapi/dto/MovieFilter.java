@@ -0,0 +1,59 @@
+package com.kood.movieapi.dto;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+// Criteria for the movie listing. Every non-empty criterion must hold (AND); within the
+// genre and actor id lists, ANY matches movies linked to at least one id, ALL to every id.
+// Ranges are inclusive and open-ended when a bound is null.
+public record MovieFilter(List<Long> genreIds, Match genreMatch,
+                          List<Long> actorIds, Match actorMatch,
+                          Integer yearFrom, Integer yearTo,
+                          Integer minDuration, Integer maxDuration) {
+
+    public enum Match {
+        ANY, ALL;
+
+        public static Match parse(String value, String param) {
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid parameter '" + param + "' with value '" + value
+                        + "'; use any or all");
+            }
+        }
+    }
+
+    public MovieFilter {
+        genreIds = genreIds == null ? List.of() : genreIds.stream().distinct().toList();
+        actorIds = actorIds == null ? List.of() : actorIds.stream().distinct().toList();
+        genreMatch = genreMatch == null ? Match.ANY : genreMatch;
+        actorMatch = actorMatch == null ? Match.ANY : actorMatch;
+        if (genreIds.stream().anyMatch(Objects::isNull) || actorIds.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("Genre and actor ids must not be empty");
+        }
+        if (yearFrom != null && yearTo != null && yearFrom > yearTo) {
+            throw new IllegalArgumentException("yearFrom must not be after yearTo");
+        }
+        if (minDuration != null && maxDuration != null && minDuration > maxDuration) {
+            throw new IllegalArgumentException("minDuration must not be greater than maxDuration");
+        }
+    }
+
+    public static MovieFilter none() {
+        return new MovieFilter(null, null, null, null, null, null, null, null);
+    }
+
+    public static MovieFilter byGenre(Long genreId) {
+        return new MovieFilter(List.of(genreId), Match.ANY, null, null, null, null, null, null);
+    }
+
+    public static MovieFilter byActor(Long actorId) {
+        return new MovieFilter(null, null, List.of(actorId), Match.ANY, null, null, null, null);
+    }
+
+    public static MovieFilter byYear(Integer year) {
+        return new MovieFilter(null, null, null, null, year, year, null, null);
+    }
+}
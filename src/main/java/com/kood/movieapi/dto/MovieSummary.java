@@ -0,0 +1,13 @@
+package com.kood.movieapi.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+// Read-only movie row for sparse listings; fields that were not selected stay null and
+// are left out of the JSON.
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record MovieSummary(Long id, String title, Integer releaseYear, Integer duration) {
+
+    public static final List<String> FIELDS = List.of("id", "title", "releaseYear", "duration");
+}
@@ -0,0 +1,6 @@
+package com.kood.movieapi.dto;
+
+// Validators for a conditional GET: the version tag behind the (weak) ETag, and the Last-Modified
+// time in epoch millis.
+public record ResourceVersion(String etag, long lastModified) {
+}
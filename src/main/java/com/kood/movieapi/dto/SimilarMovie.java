@@ -0,0 +1,5 @@
+package com.kood.movieapi.dto;
+
+// score is the Jaccard similarity of the two movies' combined actor and genre sets.
+public record SimilarMovie(Long movieId, String title, double score, int sharedActors, int sharedGenres) {
+}
@@ -0,0 +1,4 @@
+package com.kood.movieapi.dto;
+
+public record YearStats(int year, long movieCount) {
+}
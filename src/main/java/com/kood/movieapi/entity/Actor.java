@@ -1,14 +1,17 @@
 package com.kood.movieapi.entity;
 
+import com.kood.movieapi.config.SequentialId;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Past;
 import lombok.*;
+import org.hibernate.Hibernate;
 import java.time.LocalDate;
-import java.util.List;
+import java.util.Set;
 
-@Data
+@Getter
+@Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @ToString(exclude = "movies")
@@ -16,7 +19,7 @@ import java.util.List;
 public class Actor {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SequentialId
     @Setter(AccessLevel.NONE)
     private Long id;
 
@@ -28,5 +31,22 @@ public class Actor {
 
     @ManyToMany(mappedBy = "actors")
     @JsonIgnore
-    private List<Movie> movies;
+    private Set<Movie> movies;
+
+    // Same id-based identity as Movie.
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || Hibernate.getClass(this) != Hibernate.getClass(o)) {
+            return false;
+        }
+        return id != null && id.equals(((Actor) o).getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
 }
@@ -1,12 +1,15 @@
 package com.kood.movieapi.entity;
 
+import com.kood.movieapi.config.SequentialId;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import lombok.*;
+import org.hibernate.Hibernate;
 import com.fasterxml.jackson.annotation.JsonIgnore;
-import java.util.List;
+import java.util.Set;
 
-@Data
+@Getter
+@Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @ToString(exclude = "movies")
@@ -14,7 +17,7 @@ import java.util.List;
 public class Genre {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SequentialId
     @Setter(AccessLevel.NONE)
     private Long id;
 
@@ -23,5 +26,22 @@ public class Genre {
 
     @ManyToMany(mappedBy = "genres")
     @JsonIgnore
-    private List<Movie> movies;
+    private Set<Movie> movies;
+
+    // Same id-based identity as Movie.
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || Hibernate.getClass(this) != Hibernate.getClass(o)) {
+            return false;
+        }
+        return id != null && id.equals(((Genre) o).getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
 }
@@ -1,21 +1,25 @@
 package com.kood.movieapi.entity;
 
+import com.kood.movieapi.config.SequentialId;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
+import org.hibernate.Hibernate;
 import java.time.LocalDate;
-import java.util.List;
+import java.util.Set;
 
-@Data
+@Getter
+@Setter
 @NoArgsConstructor
 @AllArgsConstructor
+@ToString
 @Entity
 public class Movie {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SequentialId
     @Setter(AccessLevel.NONE)
     private Long id;
 
@@ -39,7 +43,8 @@ public class Movie {
             joinColumns = @JoinColumn(name = "movie_id"),
             inverseJoinColumns = @JoinColumn(name = "actor_id")
     )
-    private List<Actor> actors;
+    @OrderBy("id")
+    private Set<Actor> actors;
 
     @ManyToMany
     @JoinTable(
@@ -47,5 +52,24 @@ public class Movie {
             joinColumns = @JoinColumn(name = "movie_id"),
             inverseJoinColumns = @JoinColumn(name = "genre_id")
     )
-    private List<Genre> genres;
+    @OrderBy("id")
+    private Set<Genre> genres;
+
+    // Identity is the database id, so Hibernate can diff the association sets. The hash
+    // is constant per class: an entity keeps its bucket when the id is assigned on persist.
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || Hibernate.getClass(this) != Hibernate.getClass(o)) {
+            return false;
+        }
+        return id != null && id.equals(((Movie) o).getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
 }
@@ -0,0 +1,88 @@
+package com.kood.movieapi.pagination;
+
+import com.kood.movieapi.dto.MovieSummary;
+import com.kood.movieapi.entity.Movie;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.Set;
+
+// Opaque position for keyset pagination over movies: the sort key and id of the last row
+// of the previous slice. Encoded as base64url of "property|direction|id|key".
+public record MovieCursor(String property, Sort.Direction direction, long id, String key) {
+
+    public static final Set<String> SORT_PROPERTIES = Set.of("id", "title", "releaseYear", "duration");
+
+    // Cursor mode orders by exactly one property (plus id as the tie-breaker); unsorted means id ascending.
+    public static Sort.Order singleOrder(Sort sort) {
+        Iterator<Sort.Order> orders = sort.iterator();
+        if (!orders.hasNext()) {
+            return Sort.Order.asc("id");
+        }
+        Sort.Order order = orders.next();
+        if (orders.hasNext()) {
+            throw new IllegalArgumentException("Cursor pagination supports a single sort property");
+        }
+        if (!SORT_PROPERTIES.contains(order.getProperty())) {
+            throw new IllegalArgumentException("Cursor pagination cannot sort by '" + order.getProperty()
+                    + "'; use one of " + SORT_PROPERTIES);
+        }
+        return order;
+    }
+
+    public static MovieCursor after(Movie last, Sort.Order order) {
+        return after(last.getId(), last.getTitle(), last.getReleaseYear(), last.getDuration(), order);
+    }
+
+    // The summary must include the id and the sort property.
+    public static MovieCursor after(MovieSummary last, Sort.Order order) {
+        return after(last.id(), last.title(), last.releaseYear(), last.duration(), order);
+    }
+
+    private static MovieCursor after(Long id, String title, Integer releaseYear, Integer duration, Sort.Order order) {
+        String key = switch (order.getProperty()) {
+            case "title" -> title;
+            case "releaseYear" -> String.valueOf(releaseYear);
+            case "duration" -> String.valueOf(duration);
+            default -> String.valueOf(id);
+        };
+        return new MovieCursor(order.getProperty(), order.getDirection(), id, key);
+    }
+
+    public static MovieCursor decode(String token, Sort.Order order) {
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split("\\|", 4);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        if (parts.length != 4) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        if (!parts[0].equals(order.getProperty()) || !parts[1].equals(order.getDirection().name())) {
+            throw new IllegalArgumentException("Cursor does not match the requested sort");
+        }
+        try {
+            MovieCursor cursor = new MovieCursor(parts[0], order.getDirection(), Long.parseLong(parts[2]), parts[3]);
+            cursor.typedKey();
+            return cursor;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    public String encode() {
+        String raw = property + "|" + direction.name() + "|" + id + "|" + key;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public Object typedKey() {
+        return switch (property) {
+            case "title" -> key;
+            case "releaseYear", "duration" -> Integer.valueOf(key);
+            default -> Long.valueOf(key);
+        };
+    }
+}
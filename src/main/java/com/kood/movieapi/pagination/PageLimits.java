@@ -0,0 +1,39 @@
+package com.kood.movieapi.pagination;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+// Limits shared by every paged endpoint: page >= 0 and 1 <= size <= 100.
+public final class PageLimits {
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private PageLimits() {
+    }
+
+    public static void validate(Pageable pageable) {
+        if (pageable == null) return;
+        int page = pageable.getPageNumber();
+        int size = pageable.getPageSize();
+        if (page < 0) {
+            throw new IllegalArgumentException("Page index must not be negative");
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+    }
+
+    // For listings that can only be paged by id, which is also the default order.
+    public static Pageable sortedById(Pageable pageable, String resource) {
+        for (Sort.Order order : pageable.getSort()) {
+            if (!order.getProperty().equals("id")) {
+                throw new IllegalArgumentException("Cannot sort " + resource + " by '" + order.getProperty() + "'; use id");
+            }
+        }
+        if (pageable.getSort().isSorted()) {
+            return pageable;
+        }
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by("id"));
+    }
+}
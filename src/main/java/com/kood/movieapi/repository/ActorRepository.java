@@ -1,11 +1,43 @@
 package com.kood.movieapi.repository;
 
 import com.kood.movieapi.entity.Actor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
-public interface ActorRepository extends JpaRepository<Actor, Long> {
+public interface ActorRepository extends JpaRepository<Actor, Long>, ActorSummaryRepository {
 
-    List<Actor> findByNameContainingIgnoreCase(String name);
+    // Relevance-ordered name search over the actor_fts index (see SQLiteSchemaMigrator).
+    // As with MovieRepository.searchTitleIds, the pageable must be unsorted.
+    @Query(value = "select rowid from actor_fts where actor_fts match :query order by rank, rowid",
+            countQuery = "select count(*) from actor_fts where actor_fts match :query",
+            nativeQuery = true)
+    Page<Number> searchNameIds(@Param("query") String query, Pageable pageable);
+
+    // A movie's cast one page at a time, from the (movie_id, actor_id) link index, without
+    // initializing Movie.actors.
+    @Query(value = "select a from Actor a join a.movies m where m.id = :movieId",
+            countQuery = "select count(a) from Actor a join a.movies m where m.id = :movieId")
+    Page<Actor> findByMovieId(@Param("movieId") Long movieId, Pageable pageable);
+
+    // [actorId, number of movies] for the given actors that appear in at least one movie.
+    @Query("select a.id, count(m) from Movie m join m.actors a where a.id in :actorIds group by a.id")
+    List<Object[]> countMovies(@Param("actorIds") Collection<Long> actorIds);
+
+    // Detaches the actors from all their movies in one statement instead of rewriting
+    // each movie's actor collection.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "delete from movie_actor where actor_id in (:actorIds)", nativeQuery = true)
+    int deleteMovieLinks(@Param("actorIds") Collection<Long> actorIds);
+
+    // Plain SQL on purpose: a JPQL bulk delete would clean up movie_actor again after deleteMovieLinks.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "delete from actor where id in (:actorIds)", nativeQuery = true)
+    int deleteByIds(@Param("actorIds") Collection<Long> actorIds);
 }
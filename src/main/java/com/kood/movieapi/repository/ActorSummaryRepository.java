@@ -0,0 +1,17 @@
+package com.kood.movieapi.repository;
+
+import com.kood.movieapi.dto.ActorSummary;
+import com.kood.movieapi.dto.FieldSelection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ActorSummaryRepository {
+
+    // A page of actors, selecting only the given fields. Sorts by id only.
+    Page<ActorSummary> findSummaries(FieldSelection fields, Pageable pageable);
+
+    List<ActorSummary> findSummariesByIdIn(FieldSelection fields, Collection<Long> ids);
+}
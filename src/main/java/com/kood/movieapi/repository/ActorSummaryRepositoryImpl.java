@@ -0,0 +1,58 @@
+package com.kood.movieapi.repository;
+
+import com.kood.movieapi.dto.ActorSummary;
+import com.kood.movieapi.dto.FieldSelection;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// Scalar JPQL over the selected attributes: rows are never managed, so nothing is added to
+// the persistence context or dirty-checked.
+public class ActorSummaryRepositoryImpl implements ActorSummaryRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<ActorSummary> findSummaries(FieldSelection fields, Pageable pageable) {
+        Sort.Order byId = pageable.getSort().getOrderFor("id");
+        String direction = byId != null && byId.isDescending() ? " desc" : "";
+        List<ActorSummary> rows = query(fields, "", direction)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultStream().map(row -> summary(fields, row)).toList();
+        return PageableExecutionUtils.getPage(rows, pageable,
+                () -> entityManager.createQuery("select count(a) from Actor a", Long.class).getSingleResult());
+    }
+
+    @Override
+    public List<ActorSummary> findSummariesByIdIn(FieldSelection fields, Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return query(fields, " where a.id in :ids", "").setParameter("ids", ids)
+                .getResultStream().map(row -> summary(fields, row)).toList();
+    }
+
+    private TypedQuery<Tuple> query(FieldSelection fields, String where, String direction) {
+        String select = fields.names().stream().map(f -> "a." + f + " as " + f).collect(Collectors.joining(", "));
+        return entityManager.createQuery("select " + select + " from Actor a" + where + " order by a.id" + direction, Tuple.class);
+    }
+
+    private static ActorSummary summary(FieldSelection fields, Tuple row) {
+        return new ActorSummary(
+                fields.includes("id") ? row.get("id", Long.class) : null,
+                fields.includes("name") ? row.get("name", String.class) : null,
+                fields.includes("birthDate") ? row.get("birthDate", LocalDate.class) : null);
+    }
+}
@@ -2,7 +2,27 @@ package com.kood.movieapi.repository;
 
 import com.kood.movieapi.entity.Genre;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface GenreRepository extends JpaRepository<Genre, Long> {
+import java.util.Collection;
+import java.util.List;
 
+public interface GenreRepository extends JpaRepository<Genre, Long>, GenreSummaryRepository {
+
+    // [genreId, number of movies] for the given genres that have at least one movie.
+    @Query("select g.id, count(m) from Movie m join m.genres g where g.id in :genreIds group by g.id")
+    List<Object[]> countMovies(@Param("genreIds") Collection<Long> genreIds);
+
+    // Detaches the genres from all their movies in one statement instead of rewriting
+    // each movie's genre collection.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "delete from movie_genre where genre_id in (:genreIds)", nativeQuery = true)
+    int deleteMovieLinks(@Param("genreIds") Collection<Long> genreIds);
+
+    // Plain SQL on purpose: a JPQL bulk delete would clean up movie_genre again after deleteMovieLinks.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "delete from genre where id in (:genreIds)", nativeQuery = true)
+    int deleteByIds(@Param("genreIds") Collection<Long> genreIds);
 }
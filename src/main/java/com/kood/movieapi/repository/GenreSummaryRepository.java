@@ -0,0 +1,12 @@
+package com.kood.movieapi.repository;
+
+import com.kood.movieapi.dto.FieldSelection;
+import com.kood.movieapi.dto.GenreSummary;
+
+import java.util.List;
+
+public interface GenreSummaryRepository {
+
+    // All genres by id, selecting only the given fields.
+    List<GenreSummary> findSummaries(FieldSelection fields);
+}
@@ -0,0 +1,27 @@
+package com.kood.movieapi.repository;
+
+import com.kood.movieapi.dto.FieldSelection;
+import com.kood.movieapi.dto.GenreSummary;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class GenreSummaryRepositoryImpl implements GenreSummaryRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<GenreSummary> findSummaries(FieldSelection fields) {
+        String select = fields.names().stream().map(f -> "g." + f + " as " + f).collect(Collectors.joining(", "));
+        return entityManager.createQuery("select " + select + " from Genre g order by g.id", Tuple.class)
+                .getResultStream()
+                .map(row -> new GenreSummary(
+                        fields.includes("id") ? row.get("id", Long.class) : null,
+                        fields.includes("name") ? row.get("name", String.class) : null))
+                .toList();
+    }
+}
@@ -0,0 +1,27 @@
+package com.kood.movieapi.repository;
+
+import com.kood.movieapi.dto.FieldSelection;
+import com.kood.movieapi.dto.MovieFilter;
+import com.kood.movieapi.dto.MovieSummary;
+import com.kood.movieapi.pagination.MovieCursor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+
+public interface MovieFilterRepository {
+
+    // Id page of the movies matching the filter. Sortable by id, title, releaseYear and duration.
+    Page<Long> findIds(MovieFilter filter, Pageable pageable);
+
+    // Ids of the matching movies that follow the cursor in the given order, at most limit
+    // of them. A null cursor starts from the beginning.
+    List<Long> findIdsAfter(MovieFilter filter, Sort.Order order, MovieCursor after, int limit);
+
+    // The same listings selecting only the given columns, without loading entities.
+    Page<MovieSummary> findSummaries(MovieFilter filter, FieldSelection fields, Pageable pageable);
+
+    List<MovieSummary> findSummariesAfter(MovieFilter filter, FieldSelection fields, Sort.Order order,
+                                          MovieCursor after, int limit);
+}
@@ -0,0 +1,190 @@
+package com.kood.movieapi.repository;
+
+import com.kood.movieapi.dto.FieldSelection;
+import com.kood.movieapi.dto.MovieFilter;
+import com.kood.movieapi.dto.MovieSummary;
+import com.kood.movieapi.pagination.MovieCursor;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// All listing criteria compiled into a single SQL statement (plus the count for a Page).
+// Genre and actor criteria are semi-joins on the link tables, answered from the
+// (genre_id, movie_id) and (actor_id, movie_id) indexes without joining movie rows:
+//   ANY  m.id IN (SELECT movie_id FROM movie_genre WHERE genre_id IN (...))
+//   ALL  the same, GROUP BY movie_id HAVING count(DISTINCT genre_id) = <number of ids>
+// Keyset slices add WHERE (sort_key, id) > (?, ?) on the (sort_key, id) indexes.
+public class MovieFilterRepositoryImpl implements MovieFilterRepository {
+
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+            "id", "id",
+            "title", "title collate nocase",
+            "releaseYear", "release_year",
+            "duration", "duration");
+
+    private static final Map<String, String> FIELD_COLUMNS = Map.of(
+            "id", "m.id",
+            "title", "m.title",
+            "releaseYear", "m.release_year",
+            "duration", "m.duration");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<Long> findIds(MovieFilter filter, Pageable pageable) {
+        return page(filter, pageable, "m.id", MovieFilterRepositoryImpl::toLong);
+    }
+
+    @Override
+    public List<Long> findIdsAfter(MovieFilter filter, Sort.Order order, MovieCursor after, int limit) {
+        return seek(filter, order, after, limit, "m.id", MovieFilterRepositoryImpl::toLong);
+    }
+
+    @Override
+    public Page<MovieSummary> findSummaries(MovieFilter filter, FieldSelection fields, Pageable pageable) {
+        return page(filter, pageable, selectList(fields), row -> summary(fields, row));
+    }
+
+    @Override
+    public List<MovieSummary> findSummariesAfter(MovieFilter filter, FieldSelection fields, Sort.Order order,
+                                                 MovieCursor after, int limit) {
+        return seek(filter, order, after, limit, selectList(fields), row -> summary(fields, row));
+    }
+
+    private <T> Page<T> page(MovieFilter filter, Pageable pageable, String select, Function<Object, T> mapper) {
+        Where where = where(filter);
+        List<String> orderBy = new ArrayList<>();
+        boolean byId = false;
+        for (Sort.Order order : pageable.getSort()) {
+            orderBy.add("m." + column(order.getProperty()) + (order.isAscending() ? " asc" : " desc"));
+            byId |= order.getProperty().equals("id");
+        }
+        if (!byId) {
+            // Without a unique tie-breaker, rows with equal sort keys could move between pages.
+            orderBy.add("m.id asc");
+        }
+
+        Query query = where.bind(entityManager.createNativeQuery(
+                "select " + select + " from movie m" + where.sql() + " order by " + String.join(", ", orderBy)));
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset()).setMaxResults(pageable.getPageSize());
+        }
+        List<T> rows = ((List<?>) query.getResultList()).stream().map(mapper).toList();
+        return PageableExecutionUtils.getPage(rows, pageable, () -> ((Number) where.bind(entityManager.createNativeQuery(
+                "select count(*) from movie m" + where.sql())).getSingleResult()).longValue());
+    }
+
+    private <T> List<T> seek(MovieFilter filter, Sort.Order order, MovieCursor after, int limit,
+                             String select, Function<Object, T> mapper) {
+        Where where = where(filter);
+        String column = "m." + column(order.getProperty());
+        String cmp = order.isAscending() ? " > " : " < ";
+        if (after != null) {
+            if (order.getProperty().equals("id")) {
+                where.and("m.id" + cmp + ":lastId", "lastId", after.id());
+            } else {
+                where.and("(" + column + ", m.id)" + cmp + "(:lastKey, :lastId)", "lastId", after.id());
+                where.params.put("lastKey", after.typedKey());
+            }
+        }
+        String direction = order.isAscending() ? " asc" : " desc";
+        String orderBy = order.getProperty().equals("id") ? column + direction : column + direction + ", m.id" + direction;
+
+        Query query = where.bind(entityManager.createNativeQuery(
+                "select " + select + " from movie m" + where.sql() + " order by " + orderBy));
+        return ((List<?>) query.setMaxResults(limit).getResultList()).stream().map(mapper).toList();
+    }
+
+    private Where where(MovieFilter filter) {
+        Where where = new Where();
+        if (!filter.genreIds().isEmpty()) {
+            where.and("m.id in (" + linked("movie_genre", "genre_id", "genreIds", filter.genreMatch(), filter.genreIds().size()) + ")",
+                    "genreIds", filter.genreIds());
+        }
+        if (!filter.actorIds().isEmpty()) {
+            where.and("m.id in (" + linked("movie_actor", "actor_id", "actorIds", filter.actorMatch(), filter.actorIds().size()) + ")",
+                    "actorIds", filter.actorIds());
+        }
+        if (filter.yearFrom() != null && filter.yearFrom().equals(filter.yearTo())) {
+            where.and("m.release_year = :year", "year", filter.yearFrom());
+        } else {
+            if (filter.yearFrom() != null) where.and("m.release_year >= :yearFrom", "yearFrom", filter.yearFrom());
+            if (filter.yearTo() != null) where.and("m.release_year <= :yearTo", "yearTo", filter.yearTo());
+        }
+        if (filter.minDuration() != null) where.and("m.duration >= :minDuration", "minDuration", filter.minDuration());
+        if (filter.maxDuration() != null) where.and("m.duration <= :maxDuration", "maxDuration", filter.maxDuration());
+        return where;
+    }
+
+    private static String linked(String table, String column, String param, MovieFilter.Match match, int count) {
+        String sql = "select movie_id from " + table + " where " + column + " in (:" + param + ")";
+        if (match == MovieFilter.Match.ALL && count > 1) {
+            sql += " group by movie_id having count(distinct " + column + ") = " + count;
+        }
+        return sql;
+    }
+
+    private static String column(String property) {
+        String column = SORT_COLUMNS.get(property);
+        if (column == null) {
+            throw new IllegalArgumentException("Cannot sort movies by '" + property + "'; use one of " + SORT_COLUMNS.keySet());
+        }
+        return column;
+    }
+
+    private static String selectList(FieldSelection fields) {
+        return fields.names().stream().map(FIELD_COLUMNS::get).collect(Collectors.joining(", "));
+    }
+
+    // Row values come back in the order of fields.names(); a single column is not wrapped in an array.
+    private static MovieSummary summary(FieldSelection fields, Object row) {
+        Object[] values = row instanceof Object[] array ? array : new Object[]{row};
+        Map<String, Object> byField = new HashMap<>();
+        for (int i = 0; i < values.length; i++) {
+            byField.put(fields.names().get(i), values[i]);
+        }
+        Number releaseYear = (Number) byField.get("releaseYear");
+        Number duration = (Number) byField.get("duration");
+        return new MovieSummary(
+                byField.containsKey("id") ? toLong(byField.get("id")) : null,
+                (String) byField.get("title"),
+                releaseYear != null ? releaseYear.intValue() : null,
+                duration != null ? duration.intValue() : null);
+    }
+
+    private static Long toLong(Object value) {
+        // SQLite reports integer columns of native queries as Integer or Long depending on size.
+        return ((Number) value).longValue();
+    }
+
+    private static final class Where {
+        private final List<String> clauses = new ArrayList<>();
+        private final Map<String, Object> params = new HashMap<>();
+
+        void and(String clause, String param, Object value) {
+            clauses.add(clause);
+            params.put(param, value);
+        }
+
+        String sql() {
+            return clauses.isEmpty() ? "" : " where " + String.join(" and ", clauses);
+        }
+
+        Query bind(Query query) {
+            params.forEach(query::setParameter);
+            return query;
+        }
+    }
+}
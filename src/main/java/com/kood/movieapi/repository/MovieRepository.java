@@ -1,22 +1,50 @@
 package com.kood.movieapi.repository;
 
 import com.kood.movieapi.entity.Movie;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
-public interface MovieRepository extends JpaRepository<Movie, Long> {
+public interface MovieRepository extends JpaRepository<Movie, Long>, MovieFilterRepository {
 
     List<Movie> findByActors_Id(Long actorId);
-    Page<Movie> findByActors_Id(Long actorId, Pageable pageable);
 
     List<Movie> findByReleaseYear(Integer releaseYear);
-    Page<Movie> findByReleaseYear(Integer releaseYear, Pageable pageable);
 
     List<Movie> findByGenres_Id(Long genreId);
-    Page<Movie> findByGenres_Id(Long genreId, Pageable pageable);
 
-    Page<Movie> findByTitleContainingIgnoreCase(String title, Pageable pageable);
+    @Query("select m.id from Movie m join m.actors a where a.id = :actorId")
+    List<Long> findIdsByActorId(@Param("actorId") Long actorId);
+
+    @Query("select m.id from Movie m join m.genres g where g.id = :genreId")
+    List<Long> findIdsByGenreId(@Param("genreId") Long genreId);
+
+    @Query("select distinct m.id from Movie m join m.actors a where a.id in :actorIds")
+    List<Long> findIdsByActorIds(@Param("actorIds") Collection<Long> actorIds);
+
+    @Query("select distinct m.id from Movie m join m.genres g where g.id in :genreIds")
+    List<Long> findIdsByGenreIds(@Param("genreIds") Collection<Long> genreIds);
+
+    // Relevance-ordered title search over the movie_fts index (see SQLiteSchemaMigrator).
+    // The pageable must be unsorted: the order is always bm25 rank, then id.
+    // SQLite reports rowid as INTEGER, hence Number rather than Long.
+    @Query(value = "select rowid from movie_fts where movie_fts match :query order by rank, rowid",
+            countQuery = "select count(*) from movie_fts where movie_fts match :query",
+            nativeQuery = true)
+    Page<Number> searchTitleIds(@Param("query") String query, Pageable pageable);
+
+    // Fetched one collection per query: joining both would return actors x genres rows
+    // per movie. Run both inside the same persistence context and the second one
+    // completes the instances returned by the first.
+    @EntityGraph(attributePaths = "actors")
+    List<Movie> findWithActorsByIdIn(Collection<Long> ids);
+
+    @EntityGraph(attributePaths = "genres")
+    List<Movie> findWithGenresByIdIn(Collection<Long> ids);
 }
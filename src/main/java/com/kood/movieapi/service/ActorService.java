@@ -1,17 +1,24 @@
 package com.kood.movieapi.service;
 
+import com.kood.movieapi.dto.FieldSelection;
+import com.kood.movieapi.dto.ActorSummary;
 import com.kood.movieapi.entity.Actor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
-import java.util.List;
+import java.util.Collection;
 import java.util.Map;
 
 public interface ActorService {
 
-    List<Actor> getAllActors();
+    Page<Actor> getAllActors(Pageable pageable);
     Actor getActorById(Long id);
+    Map<Long, Actor> getActorsByIds(Collection<Long> ids);
     Actor createActor(Actor actor);
     Actor patchActor(Long id, Map<String, Object> updates);
     void deleteActor(Long id, boolean force);
+    void deleteActors(Collection<Long> ids, boolean force);
 
-    List<Actor> actorsByName(String name);
+    Page<Actor> actorsByName(String name, Pageable pageable);
+    Page<ActorSummary> actorSummaries(String name, FieldSelection fields, Pageable pageable);
 }
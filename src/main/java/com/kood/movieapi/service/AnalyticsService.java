@@ -0,0 +1,12 @@
+package com.kood.movieapi.service;
+
+import com.kood.movieapi.dto.AnalyticsGroupBy;
+import com.kood.movieapi.dto.AnalyticsResult;
+import com.kood.movieapi.dto.MovieFilter;
+
+public interface AnalyticsService {
+
+    AnalyticsResult movies(MovieFilter filter, AnalyticsGroupBy groupBy, int limit);
+
+    AnalyticsResult refresh();
+}
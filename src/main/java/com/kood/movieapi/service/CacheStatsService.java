@@ -0,0 +1,8 @@
+package com.kood.movieapi.service;
+
+import java.util.Map;
+
+public interface CacheStatsService {
+
+    Map<String, Map<String, Object>> getCacheStats();
+}
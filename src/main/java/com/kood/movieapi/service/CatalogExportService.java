@@ -0,0 +1,12 @@
+package com.kood.movieapi.service;
+
+import com.kood.movieapi.dto.ExportFormat;
+
+import java.io.OutputStream;
+
+public interface CatalogExportService {
+
+    void exportMovies(OutputStream out, ExportFormat format);
+    void exportActors(OutputStream out, ExportFormat format);
+    void exportGenres(OutputStream out, ExportFormat format);
+}
@@ -0,0 +1,16 @@
+package com.kood.movieapi.service;
+
+import com.kood.movieapi.dto.CoStar;
+import com.kood.movieapi.dto.CollaborationPath;
+import com.kood.movieapi.dto.SimilarMovie;
+
+import java.util.List;
+
+public interface CoStarService {
+
+    List<CoStar> coStars(Long actorId, int limit);
+
+    CollaborationPath path(Long fromActorId, Long toActorId);
+
+    List<SimilarMovie> similarMovies(Long movieId, int limit);
+}
@@ -1,8 +1,13 @@
 package com.kood.movieapi.service;
 
+import com.kood.movieapi.dto.FieldSelection;
+import com.kood.movieapi.dto.GenreSummary;
 import com.kood.movieapi.entity.Genre;
 import com.kood.movieapi.entity.Movie;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -10,9 +15,12 @@ public interface GenreService {
 
     List<Genre> getAllGenres();
     Genre getGenreById(Long id);
+    Map<Long, Genre> getGenresByIds(Collection<Long> ids);
     Genre createGenre(Genre genre);
     Genre patchGenre(Long id, Map<String, Object> updates);
     void deleteGenre(Long id, boolean force);
+    void deleteGenres(Collection<Long> ids, boolean force);
 
-    List<Movie> moviesInGenre(Long genreId);
+    Page<Movie> moviesInGenre(Long genreId, Pageable pageable);
+    List<GenreSummary> genreSummaries(FieldSelection fields);
 }
@@ -0,0 +1,11 @@
+package com.kood.movieapi.service;
+
+import com.kood.movieapi.dto.ImportResult;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+public interface MovieImportService {
+
+    ImportResult importMovies(InputStream json) throws IOException;
+}
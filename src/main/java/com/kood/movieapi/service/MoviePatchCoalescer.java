@@ -0,0 +1,10 @@
+package com.kood.movieapi.service;
+
+import com.kood.movieapi.entity.Movie;
+
+import java.util.Map;
+
+public interface MoviePatchCoalescer {
+
+    Movie patchMovie(Long id, Map<String, Object> updates);
+}
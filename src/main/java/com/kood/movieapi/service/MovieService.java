@@ -1,10 +1,15 @@
 package com.kood.movieapi.service;
 
+import com.kood.movieapi.dto.FieldSelection;
+import com.kood.movieapi.dto.MovieFilter;
+import com.kood.movieapi.dto.MovieSummary;
 import com.kood.movieapi.entity.Actor;
 import com.kood.movieapi.entity.Movie;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -13,8 +18,10 @@ public interface MovieService {
     List<Movie> getAllMovies();
     Page<Movie> getAllMovies(Pageable pageable);
     Movie getMovieById(Long id);
+    Map<Long, Movie> getMoviesByIds(Collection<Long> ids);
     Movie createMovie(Movie movie);
     Movie patchMovie(Long id, Map<String, Object> updates);
+    Map<Long, Movie> patchMovies(Map<Long, List<Map<String, Object>>> patches);
     void deleteMovie(Long id);
 
     List<Movie> moviesByGenre(Long genreId);
@@ -23,7 +30,11 @@ public interface MovieService {
     Page<Movie> moviesByYear(Integer year, Pageable pageable);
     List<Movie> moviesByActor(Long actorId);
     Page<Movie> moviesByActor(Long actorId, Pageable pageable);
-    List<Actor> actorsInMovie(Long movieId);
+    Page<Actor> actorsInMovie(Long movieId, Pageable pageable);
+    Page<Movie> findMovies(MovieFilter filter, Pageable pageable);
+    Slice<Movie> moviesAfter(MovieFilter filter, String after, Pageable pageable);
+    Page<MovieSummary> findMovieSummaries(MovieFilter filter, FieldSelection fields, Pageable pageable);
+    Slice<MovieSummary> movieSummariesAfter(MovieFilter filter, FieldSelection fields, String after, Pageable pageable);
 
     Page<Movie> searchMoviesByTitle(String title, Pageable pageable);
 }
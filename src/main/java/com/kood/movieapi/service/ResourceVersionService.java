@@ -0,0 +1,14 @@
+package com.kood.movieapi.service;
+
+import com.kood.movieapi.dto.ResourceVersion;
+
+public interface ResourceVersionService {
+
+    // Covers the movie with its embedded actors and genres, so also /api/movies/{id}/actors.
+    ResourceVersion movieVersion(Long id);
+    ResourceVersion actorVersion(Long id);
+    ResourceVersion genreVersion(Long id);
+
+    // Collection-level version of one or more tables; changes whenever any row of them does.
+    ResourceVersion catalogVersion(String... tables);
+}
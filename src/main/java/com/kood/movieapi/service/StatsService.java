@@ -0,0 +1,23 @@
+package com.kood.movieapi.service;
+
+import com.kood.movieapi.dto.ActorStats;
+import com.kood.movieapi.dto.CatalogTotals;
+import com.kood.movieapi.dto.GenreStats;
+import com.kood.movieapi.dto.YearStats;
+
+import java.util.List;
+
+public interface StatsService {
+
+    CatalogTotals totals();
+
+    List<GenreStats> genreStats();
+
+    List<YearStats> yearStats();
+
+    List<ActorStats> topActors(int limit);
+
+    ActorStats actorStats(Long actorId);
+
+    CatalogTotals rebuild();
+}
@@ -1,17 +1,32 @@
 package com.kood.movieapi.serviceimpl;
 
+import com.kood.movieapi.config.CacheConfig;
+import com.kood.movieapi.dto.ActorSummary;
+import com.kood.movieapi.dto.CatalogLinksChangedEvent;
+import com.kood.movieapi.dto.FieldSelection;
 import com.kood.movieapi.entity.Actor;
 import com.kood.movieapi.exception.ResourceNotFoundException;
-import com.kood.movieapi.entity.Movie;
+import com.kood.movieapi.pagination.PageLimits;
 import com.kood.movieapi.repository.ActorRepository;
 import com.kood.movieapi.repository.MovieRepository;
 import com.kood.movieapi.service.ActorService;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 @Service
 @Transactional
@@ -19,23 +34,39 @@ public class ActorServiceImpl implements ActorService {
 
     private final ActorRepository actorRepository;
     private final MovieRepository movieRepository;
+    private final CacheManager cacheManager;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public ActorServiceImpl(ActorRepository actorRepository, MovieRepository movieRepository) {
+    public ActorServiceImpl(ActorRepository actorRepository, MovieRepository movieRepository,
+                            CacheManager cacheManager, ApplicationEventPublisher eventPublisher) {
         this.actorRepository = actorRepository;
         this.movieRepository = movieRepository;
+        this.cacheManager = cacheManager;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
-    public List<Actor> getAllActors() {
-        return actorRepository.findAll();
+    @Transactional(readOnly = true)
+    public Page<Actor> getAllActors(Pageable pageable) {
+        // By id only: there is no index to page through actors by name or birth date.
+        return actorRepository.findAll(PageLimits.sortedById(pageable, "actors"));
     }
 
     @Override
+    @Cacheable(cacheNames = CacheConfig.ACTORS, key = "#id")
+    @Transactional(readOnly = true)
     public Actor getActorById(Long id) {
         return actorRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Actor not found with id " + id));
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, Actor> getActorsByIds(Collection<Long> ids) {
+        return IdBatches.load(ids, cacheManager.getCache(CacheConfig.ACTORS), Actor.class,
+                actorRepository::findAllById, Actor::getId);
+    }
+
     @Override
     public Actor createActor(Actor actor) {
         if (actor.getName() == null || actor.getName().isEmpty()) {
@@ -48,8 +79,11 @@ public class ActorServiceImpl implements ActorService {
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.ACTORS, key = "#id")
     public Actor patchActor(Long id, Map<String, Object> updates) {
         Actor actor = getActorById(id);
+        // Cached movies embed the actor, so they are stale after a rename as well.
+        CacheConfig.evictAfterCommit(cacheManager, CacheConfig.MOVIES, movieRepository.findIdsByActorId(id));
         updates.forEach((key, value) -> {
             switch (key) {
                 case "id" -> {
@@ -95,26 +129,85 @@ public class ActorServiceImpl implements ActorService {
 
     @Override
     public void deleteActor(Long id, boolean force) {
-        Actor actor = getActorById(id);
-        List<Movie> movies = movieRepository.findByActors_Id(id);
-        int count = movies.size();
-        if (count > 0 && !force) {
-            throw new IllegalArgumentException("Unable to delete actor '" + actor.getName() + "' as they are associated with " + count + " movies");
+        deleteActors(List.of(id), force);
+    }
+
+    @Override
+    public void deleteActors(Collection<Long> ids, boolean force) {
+        List<Long> actorIds = ids.stream().distinct().toList();
+        if (actorIds.isEmpty()) {
+            throw new IllegalArgumentException("At least one actor id is required");
+        }
+        Map<Long, Actor> actors = new HashMap<>();
+        for (Actor a : actorRepository.findAllById(actorIds)) {
+            actors.put(a.getId(), a);
+        }
+        for (Long id : actorIds) {
+            if (!actors.containsKey(id)) {
+                throw new ResourceNotFoundException("Actor not found with id " + id);
+            }
         }
 
-        if (count > 0) {
-            for (Movie m : movies) {
-                if (m.getActors() != null) {
-                    m.getActors().removeIf(a -> a.getId().equals(id));
-                }
+        if (!force) {
+            List<Object[]> counts = actorRepository.countMovies(actorIds);
+            if (!counts.isEmpty()) {
+                Actor actor = actors.get((Long) counts.get(0)[0]);
+                throw new IllegalArgumentException("Unable to delete actor '" + actor.getName() + "' as they are associated with " + counts.get(0)[1] + " movies");
             }
-            movieRepository.saveAll(movies);
+        } else {
+            // Cached movies embed the actors; collect them before the links are gone.
+            CacheConfig.evictAfterCommit(cacheManager, CacheConfig.MOVIES, movieRepository.findIdsByActorIds(actorIds));
+            actorRepository.deleteMovieLinks(actorIds);
+            eventPublisher.publishEvent(CatalogLinksChangedEvent.actors(actorIds));
         }
-        actorRepository.delete(actor);
+        actorRepository.deleteByIds(actorIds);
+        CacheConfig.evictAfterCommit(cacheManager, CacheConfig.ACTORS, actorIds);
     }
 
     @Override
-    public List<Actor> actorsByName(String name) {
-        return actorRepository.findByNameContainingIgnoreCase(name);
+    @Transactional(readOnly = true)
+    public Page<Actor> actorsByName(String name, Pageable pageable) {
+        String query = FullTextQueries.prefixMatch(name);
+        if (query.isEmpty()) {
+            return getAllActors(pageable);
+        }
+        Page<Long> ids = searchNameIds(query, pageable);
+        Map<Long, Actor> byId = new HashMap<>();
+        for (Actor a : actorRepository.findAllById(ids.getContent())) {
+            byId.put(a.getId(), a);
+        }
+        return resolved(ids, byId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<ActorSummary> actorSummaries(String name, FieldSelection fields, Pageable pageable) {
+        String query = name == null ? "" : FullTextQueries.prefixMatch(name);
+        if (query.isEmpty()) {
+            return actorRepository.findSummaries(fields, PageLimits.sortedById(pageable, "actors"));
+        }
+        Page<Long> ids = searchNameIds(query, pageable);
+        // Rows come back by id; the id is selected to put them back in relevance order.
+        Map<Long, ActorSummary> byId = new HashMap<>();
+        for (ActorSummary row : actorRepository.findSummariesByIdIn(fields.with("id"), ids.getContent())) {
+            byId.put(row.id(), fields.includes("id") ? row : new ActorSummary(null, row.name(), row.birthDate()));
+        }
+        return resolved(ids, byId);
+    }
+
+    // The rows of a page of search ids, in search order. An id whose row was deleted after the
+    // search is left out; the page metadata stays that of the search.
+    private static <T> Page<T> resolved(Page<Long> ids, Map<Long, T> byId) {
+        List<T> content = ids.getContent().stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new PageImpl<>(content, ids.getPageable(), ids.getTotalElements());
+    }
+
+    // Search results are in relevance order, whatever the requested sort.
+    private Page<Long> searchNameIds(String query, Pageable pageable) {
+        Pageable byRelevance = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+        return actorRepository.searchNameIds(query, byRelevance).map(Number::longValue);
     }
 }
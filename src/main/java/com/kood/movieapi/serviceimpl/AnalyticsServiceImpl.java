@@ -0,0 +1,224 @@
+package com.kood.movieapi.serviceimpl;
+
+import com.kood.movieapi.analytics.CatalogSnapshot;
+import com.kood.movieapi.dto.AnalyticsGroup;
+import com.kood.movieapi.dto.AnalyticsGroupBy;
+import com.kood.movieapi.dto.AnalyticsResult;
+import com.kood.movieapi.dto.MovieFilter;
+import com.kood.movieapi.exception.ResourceNotFoundException;
+import com.kood.movieapi.service.AnalyticsService;
+import com.kood.movieapi.service.ResourceVersionService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+// Answers /api/analytics from a CatalogSnapshot instead of loading Movie entities. The snapshot
+// is built from one read transaction, so movies and links are consistent with each other, and
+// is rebuilt every movieapi.analytics.refresh-ms when the catalog version has moved on (or on
+// POST /api/analytics/refresh). Results may lag writes by up to one refresh interval.
+@Service
+public class AnalyticsServiceImpl implements AnalyticsService {
+
+    private static final Logger log = LoggerFactory.getLogger(AnalyticsServiceImpl.class);
+
+    private static final int MAX_GROUPS = 100;
+    private static final String[] TABLES = {"movie", "actor", "genre"};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ResourceVersionService resourceVersionService;
+    private final TransactionTemplate readOnly;
+    private final boolean enabled;
+    private final Path snapshotDir;
+    private volatile CatalogSnapshot snapshot;
+
+    public AnalyticsServiceImpl(JdbcTemplate jdbcTemplate,
+                                ResourceVersionService resourceVersionService,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${movieapi.analytics.enabled:false}") boolean enabled,
+                                @Value("${movieapi.analytics.snapshot-dir:${java.io.tmpdir}}") String snapshotDir) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.resourceVersionService = resourceVersionService;
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+        this.enabled = enabled;
+        this.snapshotDir = Path.of(snapshotDir);
+    }
+
+    @Override
+    public AnalyticsResult movies(MovieFilter filter, AnalyticsGroupBy groupBy, int limit) {
+        if (limit < 1 || limit > MAX_GROUPS) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_GROUPS);
+        }
+        CatalogSnapshot current = current();
+        CatalogSnapshot.Result result = current.query(filter, groupBy, limit);
+        Map<Long, String> names = switch (groupBy) {
+            case GENRE -> names("genre", result.groups());
+            case ACTOR -> names("actor", result.groups());
+            default -> Map.of();
+        };
+        List<AnalyticsGroup> groups = result.groups().stream()
+                .map(g -> new AnalyticsGroup(g.key(), names.get(g.key()), g.movieCount(),
+                        average(g.totalDuration(), g.timedMovies())))
+                .toList();
+        return new AnalyticsResult(current.version(), current.builtAt(), result.movieCount(),
+                average(result.totalDuration(), result.timedMovies()), groups);
+    }
+
+    @Override
+    public AnalyticsResult refresh() {
+        requireEnabled();
+        CatalogSnapshot rebuilt = rebuild();
+        return new AnalyticsResult(rebuilt.version(), rebuilt.builtAt(), rebuilt.movieCount(), null, List.of());
+    }
+
+    @Scheduled(initialDelayString = "${movieapi.analytics.refresh-ms:60000}",
+            fixedDelayString = "${movieapi.analytics.refresh-ms:60000}")
+    public void refreshIfChanged() {
+        CatalogSnapshot current = snapshot;
+        if (!enabled || current == null) return;
+        String version = readOnly.execute(status -> resourceVersionService.catalogVersion(TABLES).etag());
+        if (!current.version().equals(version)) {
+            rebuild();
+        }
+    }
+
+    private CatalogSnapshot current() {
+        requireEnabled();
+        CatalogSnapshot current = snapshot;
+        return current != null ? current : rebuild();
+    }
+
+    private void requireEnabled() {
+        if (!enabled) {
+            throw new ResourceNotFoundException("Analytics is disabled; set movieapi.analytics.enabled=true");
+        }
+    }
+
+    private synchronized CatalogSnapshot rebuild() {
+        long start = System.nanoTime();
+        Instant builtAt = Instant.now();
+        String[] version = new String[1];
+        CatalogSnapshot.Data data = readOnly.execute(status -> {
+            version[0] = resourceVersionService.catalogVersion(TABLES).etag();
+            return load();
+        });
+        try {
+            Files.createDirectories(snapshotDir);
+            Path file = Files.createTempFile(snapshotDir, "movieapi-analytics-", ".snapshot");
+            try {
+                snapshot = CatalogSnapshot.write(file, version[0], builtAt, data);
+            } finally {
+                // The mapping outlives the file; where the OS refuses, remove it at exit instead.
+                try {
+                    Files.deleteIfExists(file);
+                } catch (IOException e) {
+                    file.toFile().deleteOnExit();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        log.info("Analytics snapshot {} built: {} movies in {} ms", version[0], data.years().length,
+                (System.nanoTime() - start) / 1_000_000);
+        return snapshot;
+    }
+
+    private CatalogSnapshot.Data load() {
+        int movieCount = count("movie");
+        long[] movieIds = new long[movieCount];
+        int[] years = new int[movieCount];
+        int[] durations = new int[movieCount];
+        int[] row = {0, Integer.MAX_VALUE, Integer.MIN_VALUE};
+        jdbcTemplate.query("SELECT id, release_year, duration FROM movie ORDER BY id", rs -> {
+            if (row[0] == movieCount) return;
+            int i = row[0]++;
+            movieIds[i] = rs.getLong(1);
+            int year = rs.getInt(2);
+            years[i] = rs.wasNull() ? CatalogSnapshot.NO_VALUE : year;
+            int duration = rs.getInt(3);
+            durations[i] = rs.wasNull() ? CatalogSnapshot.NO_VALUE : duration;
+            if (years[i] != CatalogSnapshot.NO_VALUE) {
+                row[1] = Math.min(row[1], year);
+                row[2] = Math.max(row[2], year);
+            }
+        });
+
+        long[] genreIds = ids("genre");
+        long[] actorIds = ids("actor");
+        Adjacency genres = adjacency("SELECT movie_id, genre_id FROM movie_genre ORDER BY movie_id, genre_id",
+                count("movie_genre"), movieIds, genreIds);
+        Adjacency actors = adjacency("SELECT movie_id, actor_id FROM movie_actor ORDER BY movie_id, actor_id",
+                count("movie_actor"), movieIds, actorIds);
+        return new CatalogSnapshot.Data(years, durations, row[1], row[2],
+                genreIds, genres.offsets, genres.links, actorIds, actors.offsets, actors.links);
+    }
+
+    private int count(String table) {
+        Integer count = jdbcTemplate.queryForObject("SELECT count(*) FROM " + table, Integer.class);
+        return count == null ? 0 : count;
+    }
+
+    private long[] ids(String table) {
+        long[] ids = new long[count(table)];
+        int[] next = {0};
+        jdbcTemplate.query("SELECT id FROM " + table + " ORDER BY id", rs -> {
+            if (next[0] < ids.length) ids[next[0]++] = rs.getLong(1);
+        });
+        return ids;
+    }
+
+    // Link rows arrive ordered by movie id, so a pointer into movieIds finds each row and the
+    // links are appended in row order; per-row counts then become the CSR offsets.
+    private Adjacency adjacency(String sql, int linkCount, long[] movieIds, long[] targetIds) {
+        int[] offsets = new int[movieIds.length + 1];
+        int[] links = new int[linkCount];
+        int[] cursor = {0, 0};
+        jdbcTemplate.query(sql, rs -> {
+            long movieId = rs.getLong(1);
+            while (cursor[0] < movieIds.length && movieIds[cursor[0]] < movieId) cursor[0]++;
+            int target = Arrays.binarySearch(targetIds, rs.getLong(2));
+            if (cursor[0] == movieIds.length || movieIds[cursor[0]] != movieId || target < 0
+                    || cursor[1] == links.length) return;
+            offsets[cursor[0] + 1]++;
+            links[cursor[1]++] = target;
+        });
+        for (int i = 0; i < movieIds.length; i++) {
+            offsets[i + 1] += offsets[i];
+        }
+        return new Adjacency(offsets, cursor[1] == links.length ? links : Arrays.copyOf(links, cursor[1]));
+    }
+
+    private Map<Long, String> names(String table, List<CatalogSnapshot.Group> groups) {
+        if (groups.isEmpty()) return Map.of();
+        String placeholders = groups.stream().map(g -> "?").collect(Collectors.joining(", "));
+        Object[] ids = groups.stream().map(CatalogSnapshot.Group::key).toArray();
+        Map<Long, String> names = new HashMap<>();
+        readOnly.executeWithoutResult(status -> jdbcTemplate.query(
+                "SELECT id, name FROM " + table + " WHERE id IN (" + placeholders + ")",
+                rs -> { names.put(rs.getLong(1), rs.getString(2)); }, ids));
+        return names;
+    }
+
+    private static Double average(long total, long count) {
+        return count > 0 ? total / (double) count : null;
+    }
+
+    private record Adjacency(int[] offsets, int[] links) {
+    }
+}
@@ -0,0 +1,224 @@
+package com.kood.movieapi.serviceimpl;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kood.movieapi.dto.ExportFormat;
+import com.kood.movieapi.service.CatalogExportService;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+// Streams whole tables as JSON straight from forward-only JDBC cursors, without entities
+// or a persistence context. Movies are written with their actors and genres by merging
+// three cursors that are all ordered by movie id, so memory stays flat however large the
+// catalog is. The read-only transaction pins one WAL snapshot: the export is consistent
+// even while writes continue.
+@Service
+@Transactional(readOnly = true)
+public class CatalogExportServiceImpl implements CatalogExportService {
+
+    private static final int FETCH_SIZE = 1000;
+    private static final int FLUSH_EVERY = 1000;
+
+    private static final String MOVIES = "SELECT id, title, release_year, duration FROM movie ORDER BY id";
+    // Walks the (movie_id, actor_id) index in order, looking each actor up by primary key.
+    private static final String MOVIE_ACTORS = """
+            SELECT ma.movie_id, a.id, a.name, a.birth_date
+              FROM movie_actor ma JOIN actor a ON a.id = ma.actor_id
+             ORDER BY ma.movie_id, ma.actor_id""";
+    private static final String MOVIE_GENRES = """
+            SELECT mg.movie_id, g.id, g.name
+              FROM movie_genre mg JOIN genre g ON g.id = mg.genre_id
+             ORDER BY mg.movie_id, mg.genre_id""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    public CatalogExportServiceImpl(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void exportMovies(OutputStream out, ExportFormat format) {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (PreparedStatement movieQuery = cursor(connection, MOVIES);
+                 PreparedStatement actorQuery = cursor(connection, MOVIE_ACTORS);
+                 PreparedStatement genreQuery = cursor(connection, MOVIE_GENRES);
+                 ResultSet movies = movieQuery.executeQuery();
+                 ResultSet actors = actorQuery.executeQuery();
+                 ResultSet genres = genreQuery.executeQuery();
+                 Export export = new Export(out, format)) {
+                JsonGenerator json = export.json;
+                boolean moreActors = actors.next();
+                boolean moreGenres = genres.next();
+                while (movies.next()) {
+                    long movieId = movies.getLong(1);
+                    export.beginRow();
+                    json.writeNumberField("id", movieId);
+                    json.writeStringField("title", movies.getString(2));
+                    writeInt(json, "releaseYear", movies, 3);
+                    writeInt(json, "duration", movies, 4);
+
+                    json.writeArrayFieldStart("actors");
+                    // Link rows are ordered by movie id too: skip any left by a deleted movie,
+                    // then consume the run that belongs to this one.
+                    while (moreActors && actors.getLong(1) < movieId) {
+                        moreActors = actors.next();
+                    }
+                    while (moreActors && actors.getLong(1) == movieId) {
+                        json.writeStartObject();
+                        json.writeNumberField("id", actors.getLong(2));
+                        json.writeStringField("name", actors.getString(3));
+                        writeDate(json, "birthDate", actors.getDate(4));
+                        json.writeEndObject();
+                        moreActors = actors.next();
+                    }
+                    json.writeEndArray();
+
+                    json.writeArrayFieldStart("genres");
+                    while (moreGenres && genres.getLong(1) < movieId) {
+                        moreGenres = genres.next();
+                    }
+                    while (moreGenres && genres.getLong(1) == movieId) {
+                        json.writeStartObject();
+                        json.writeNumberField("id", genres.getLong(2));
+                        json.writeStringField("name", genres.getString(3));
+                        json.writeEndObject();
+                        moreGenres = genres.next();
+                    }
+                    json.writeEndArray();
+                    export.endRow();
+                }
+                export.finish();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public void exportActors(OutputStream out, ExportFormat format) {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (PreparedStatement query = cursor(connection, "SELECT id, name, birth_date FROM actor ORDER BY id");
+                 ResultSet actors = query.executeQuery();
+                 Export export = new Export(out, format)) {
+                while (actors.next()) {
+                    export.beginRow();
+                    export.json.writeNumberField("id", actors.getLong(1));
+                    export.json.writeStringField("name", actors.getString(2));
+                    writeDate(export.json, "birthDate", actors.getDate(3));
+                    export.endRow();
+                }
+                export.finish();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public void exportGenres(OutputStream out, ExportFormat format) {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (PreparedStatement query = cursor(connection, "SELECT id, name FROM genre ORDER BY id");
+                 ResultSet genres = query.executeQuery();
+                 Export export = new Export(out, format)) {
+                while (genres.next()) {
+                    export.beginRow();
+                    export.json.writeNumberField("id", genres.getLong(1));
+                    export.json.writeStringField("name", genres.getString(2));
+                    export.endRow();
+                }
+                export.finish();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return null;
+        });
+    }
+
+    private static PreparedStatement cursor(Connection connection, String sql) throws SQLException {
+        PreparedStatement statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        statement.setFetchSize(FETCH_SIZE);
+        return statement;
+    }
+
+    private static void writeInt(JsonGenerator json, String field, ResultSet rs, int column) throws SQLException, IOException {
+        int value = rs.getInt(column);
+        if (rs.wasNull()) {
+            json.writeNullField(field);
+        } else {
+            json.writeNumberField(field, value);
+        }
+    }
+
+    private static void writeDate(JsonGenerator json, String field, Date value) throws IOException {
+        if (value == null) {
+            json.writeNullField(field);
+        } else {
+            json.writeStringField(field, value.toLocalDate().toString());
+        }
+    }
+
+    // Writes rows as NDJSON lines or as the elements of one array, flushing every
+    // FLUSH_EVERY rows so the client receives the body while it is produced. The array is
+    // only closed by finish(): an export that fails partway ends as invalid JSON rather
+    // than a well-formed but truncated array.
+    private final class Export implements AutoCloseable {
+
+        private final JsonGenerator json;
+        private final ExportFormat format;
+        private long rows;
+
+        Export(OutputStream out, ExportFormat format) throws IOException {
+            this.json = objectMapper.getFactory().createGenerator(out);
+            this.format = format;
+            // The servlet container owns the response stream.
+            json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            json.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+            if (format == ExportFormat.JSON) {
+                json.writeStartArray();
+            } else {
+                json.setPrettyPrinter(new MinimalPrettyPrinter(""));
+            }
+        }
+
+        void beginRow() throws IOException {
+            json.writeStartObject();
+        }
+
+        void endRow() throws IOException {
+            json.writeEndObject();
+            if (format == ExportFormat.NDJSON) {
+                json.writeRaw('\n');
+            }
+            if (++rows % FLUSH_EVERY == 0) {
+                json.flush();
+            }
+        }
+
+        void finish() throws IOException {
+            if (format == ExportFormat.JSON) {
+                json.writeEndArray();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            json.close();
+        }
+    }
+}
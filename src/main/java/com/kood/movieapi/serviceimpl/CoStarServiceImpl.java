@@ -0,0 +1,204 @@
+package com.kood.movieapi.serviceimpl;
+
+import com.kood.movieapi.analytics.CoStarGraph;
+import com.kood.movieapi.dto.ActorSummary;
+import com.kood.movieapi.dto.CatalogLinksChangedEvent;
+import com.kood.movieapi.dto.CoStar;
+import com.kood.movieapi.dto.CollaborationPath;
+import com.kood.movieapi.dto.MovieSummary;
+import com.kood.movieapi.dto.SimilarMovie;
+import com.kood.movieapi.exception.ResourceNotFoundException;
+import com.kood.movieapi.service.CoStarService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Serves co-stars, collaboration paths and similar movies from an in-memory CoStarGraph.
+// The graph is loaded on first use. After that, each committed CatalogLinksChangedEvent
+// re-reads the links of the affected movies and patches the graph, so it follows every
+// write made through the services and the bulk import. Writes made with plain SQL are not
+// seen until a restart. Reloads are serialized, read the database without holding the
+// graph lock, and then apply their changes under the write lock.
+@Service
+public class CoStarServiceImpl implements CoStarService {
+
+    private static final Logger log = LoggerFactory.getLogger(CoStarServiceImpl.class);
+
+    private static final int MAX_RESULTS = 100;
+    // Keeps IN lists well under SQLite's bound-parameter limit.
+    private static final int RELOAD_BATCH = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnly;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Object updates = new Object();
+    private volatile CoStarGraph graph;
+
+    public CoStarServiceImpl(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+        // Also runs from after-commit callbacks, where the finished transaction cannot be joined.
+        this.readOnly.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public List<CoStar> coStars(Long actorId, int limit) {
+        checkLimit(limit);
+        requireExists("actor", actorId, "Actor not found with id " + actorId);
+        List<CoStarGraph.Ranked> ranked = read(g -> g.coStars(actorId, limit));
+        Map<Long, String> names = names("SELECT id, name FROM actor", ranked.stream().map(CoStarGraph.Ranked::id).toList());
+        return ranked.stream()
+                .map(r -> new CoStar(r.id(), names.get(r.id()), r.count()))
+                .toList();
+    }
+
+    @Override
+    public CollaborationPath path(Long fromActorId, Long toActorId) {
+        requireExists("actor", fromActorId, "Actor not found with id " + fromActorId);
+        requireExists("actor", toActorId, "Actor not found with id " + toActorId);
+        CoStarGraph.Path path = read(g -> g.shortestPath(fromActorId, toActorId));
+        if (path == null) {
+            throw new ResourceNotFoundException("No collaboration path between actors " + fromActorId
+                    + " and " + toActorId);
+        }
+        List<Long> actorIds = path.actors();
+        List<Long> movieIds = path.movies();
+        Map<Long, String> names = names("SELECT id, name FROM actor", actorIds);
+        Map<Long, String> titles = names("SELECT id, title FROM movie", movieIds);
+        return new CollaborationPath(movieIds.size(),
+                actorIds.stream().map(id -> new ActorSummary(id, names.get(id), null)).toList(),
+                movieIds.stream().map(id -> new MovieSummary(id, titles.get(id), null, null)).toList());
+    }
+
+    @Override
+    public List<SimilarMovie> similarMovies(Long movieId, int limit) {
+        checkLimit(limit);
+        requireExists("movie", movieId, "Movie not found with id " + movieId);
+        List<CoStarGraph.Ranked> ranked = read(g -> g.similarMovies(movieId, limit));
+        Map<Long, String> titles = names("SELECT id, title FROM movie", ranked.stream().map(CoStarGraph.Ranked::id).toList());
+        return ranked.stream()
+                .map(r -> new SimilarMovie(r.id(), titles.get(r.id()), r.score(), r.count(), r.secondCount()))
+                .toList();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLinksChanged(CatalogLinksChangedEvent event) {
+        synchronized (updates) {
+            CoStarGraph current = graph;
+            if (current == null) return;
+            Set<Long> movieIds = new LinkedHashSet<>(event.movieIds());
+            lock.readLock().lock();
+            try {
+                event.actorIds().forEach(id -> addAll(movieIds, current.moviesOfActor(id)));
+                event.genreIds().forEach(id -> addAll(movieIds, current.moviesOfGenre(id)));
+            } finally {
+                lock.readLock().unlock();
+            }
+            List<Long> ids = new ArrayList<>(movieIds);
+            for (int from = 0; from < ids.size(); from += RELOAD_BATCH) {
+                reload(current, ids.subList(from, Math.min(ids.size(), from + RELOAD_BATCH)));
+            }
+        }
+    }
+
+    private <T> T read(Function<CoStarGraph, T> query) {
+        CoStarGraph current = graph != null ? graph : load();
+        lock.readLock().lock();
+        try {
+            return query.apply(current);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private CoStarGraph load() {
+        synchronized (updates) {
+            if (graph != null) return graph;
+            long start = System.nanoTime();
+            CoStarGraph loaded = new CoStarGraph();
+            readOnly.executeWithoutResult(status -> {
+                jdbcTemplate.query("SELECT movie_id, actor_id FROM movie_actor ORDER BY movie_id, actor_id",
+                        rs -> { loaded.addActorLink(rs.getLong(1), rs.getLong(2)); });
+                jdbcTemplate.query("SELECT movie_id, genre_id FROM movie_genre ORDER BY movie_id, genre_id",
+                        rs -> { loaded.addGenreLink(rs.getLong(1), rs.getLong(2)); });
+            });
+            graph = loaded;
+            log.info("Co-star graph loaded: {} movie-actor links in {} ms", loaded.edges(),
+                    (System.nanoTime() - start) / 1_000_000);
+            return loaded;
+        }
+    }
+
+    private void reload(CoStarGraph current, List<Long> movieIds) {
+        String placeholders = movieIds.stream().map(id -> "?").collect(Collectors.joining(", "));
+        Map<Long, List<Long>> actors = new HashMap<>();
+        Map<Long, List<Long>> genres = new HashMap<>();
+        readOnly.executeWithoutResult(status -> {
+            jdbcTemplate.query("SELECT movie_id, actor_id FROM movie_actor WHERE movie_id IN (" + placeholders + ")",
+                    rs -> { actors.computeIfAbsent(rs.getLong(1), k -> new ArrayList<>()).add(rs.getLong(2)); },
+                    movieIds.toArray());
+            jdbcTemplate.query("SELECT movie_id, genre_id FROM movie_genre WHERE movie_id IN (" + placeholders + ")",
+                    rs -> { genres.computeIfAbsent(rs.getLong(1), k -> new ArrayList<>()).add(rs.getLong(2)); },
+                    movieIds.toArray());
+        });
+        lock.writeLock().lock();
+        try {
+            for (Long movieId : movieIds) {
+                current.setMovie(movieId, toArray(actors.get(movieId)), toArray(genres.get(movieId)));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void requireExists(String table, Long id, String notFound) {
+        Integer found = readOnly.execute(status -> jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM " + table + " WHERE id = ?", Integer.class, id));
+        if (found == null || found == 0) {
+            throw new ResourceNotFoundException(notFound);
+        }
+    }
+
+    private Map<Long, String> names(String select, Collection<Long> ids) {
+        if (ids.isEmpty()) return Map.of();
+        String placeholders = ids.stream().map(id -> "?").collect(Collectors.joining(", "));
+        Map<Long, String> names = new HashMap<>();
+        readOnly.executeWithoutResult(status -> jdbcTemplate.query(select + " WHERE id IN (" + placeholders + ")",
+                rs -> { names.put(rs.getLong(1), rs.getString(2)); }, ids.toArray()));
+        return names;
+    }
+
+    private static void checkLimit(int limit) {
+        if (limit < 1 || limit > MAX_RESULTS) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_RESULTS);
+        }
+    }
+
+    private static void addAll(Set<Long> target, long[] ids) {
+        for (long id : ids) {
+            target.add(id);
+        }
+    }
+
+    private static long[] toArray(List<Long> values) {
+        return values == null ? new long[0] : values.stream().mapToLong(Long::longValue).toArray();
+    }
+}
@@ -0,0 +1,20 @@
+package com.kood.movieapi.serviceimpl;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+// Turns free user input into an FTS5 MATCH expression: every word becomes a quoted
+// prefix term and all terms must match, e.g. "star odys" -> "star"* "odys"*.
+final class FullTextQueries {
+
+    private FullTextQueries() {
+    }
+
+    static String prefixMatch(String text) {
+        if (text == null) return "";
+        return Arrays.stream(text.split("[^\\p{L}\\p{N}]+"))
+                .filter(token -> !token.isEmpty())
+                .map(token -> "\"" + token + "\"*")
+                .collect(Collectors.joining(" "));
+    }
+}
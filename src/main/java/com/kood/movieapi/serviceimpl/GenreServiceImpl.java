@@ -1,14 +1,28 @@
 package com.kood.movieapi.serviceimpl;
 
+import com.kood.movieapi.config.CacheConfig;
+import com.kood.movieapi.dto.CatalogLinksChangedEvent;
+import com.kood.movieapi.dto.FieldSelection;
+import com.kood.movieapi.dto.GenreSummary;
 import com.kood.movieapi.entity.Genre;
 import com.kood.movieapi.entity.Movie;
 import com.kood.movieapi.exception.ResourceNotFoundException;
 import com.kood.movieapi.repository.GenreRepository;
 import com.kood.movieapi.repository.MovieRepository;
 import com.kood.movieapi.service.GenreService;
+import com.kood.movieapi.service.MovieService;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -18,24 +32,44 @@ public class GenreServiceImpl implements GenreService {
 
     private final GenreRepository genreRepository;
     private final MovieRepository movieRepository;
+    private final MovieService movieService;
+    private final CacheManager cacheManager;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public GenreServiceImpl(GenreRepository genreRepository, MovieRepository movieRepository) {
+    public GenreServiceImpl(GenreRepository genreRepository, MovieRepository movieRepository,
+                            MovieService movieService, CacheManager cacheManager,
+                            ApplicationEventPublisher eventPublisher) {
         this.genreRepository = genreRepository;
         this.movieRepository = movieRepository;
+        this.movieService = movieService;
+        this.cacheManager = cacheManager;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
+    @Cacheable(cacheNames = CacheConfig.GENRE_LIST, key = "'all'")
+    @Transactional(readOnly = true)
     public List<Genre> getAllGenres() {
         return genreRepository.findAll();
     }
 
     @Override
+    @Cacheable(cacheNames = CacheConfig.GENRES, key = "#id")
+    @Transactional(readOnly = true)
     public Genre getGenreById(Long id) {
         return genreRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Genre not found with id " + id));
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public Map<Long, Genre> getGenresByIds(Collection<Long> ids) {
+        return IdBatches.load(ids, cacheManager.getCache(CacheConfig.GENRES), Genre.class,
+                genreRepository::findAllById, Genre::getId);
+    }
+
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.GENRE_LIST, allEntries = true)
     public Genre createGenre(Genre genre) {
         if (genre.getName() == null || genre.getName().isEmpty()) {
             throw new IllegalArgumentException("Genre name cannot be null or empty");
@@ -44,8 +78,14 @@ public class GenreServiceImpl implements GenreService {
     }
 
     @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.GENRES, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.GENRE_LIST, allEntries = true)
+    })
     public Genre patchGenre(Long id, Map<String, Object> updates) {
         Genre genre = getGenreById(id);
+        // Cached movies embed the genre, so they are stale after a rename as well.
+        CacheConfig.evictAfterCommit(cacheManager, CacheConfig.MOVIES, movieRepository.findIdsByGenreId(id));
         updates.forEach((key, value) -> {
             switch (key) {
                 case "id" -> {
@@ -85,27 +125,54 @@ public class GenreServiceImpl implements GenreService {
 
     @Override
     public void deleteGenre(Long id, boolean force) {
-        Genre genre = getGenreById(id);
-        List<Movie> movies = movieRepository.findByGenres_Id(id);
-        int count = movies.size();
-        if (count > 0 && !force) {
-            throw new IllegalArgumentException("Cannot delete genre '" + genre.getName() + "' because it has " + count + " associated movies");
+        deleteGenres(List.of(id), force);
+    }
+
+    @Override
+    public void deleteGenres(Collection<Long> ids, boolean force) {
+        List<Long> genreIds = ids.stream().distinct().toList();
+        if (genreIds.isEmpty()) {
+            throw new IllegalArgumentException("At least one genre id is required");
+        }
+        Map<Long, Genre> genres = new HashMap<>();
+        for (Genre g : genreRepository.findAllById(genreIds)) {
+            genres.put(g.getId(), g);
+        }
+        for (Long id : genreIds) {
+            if (!genres.containsKey(id)) {
+                throw new ResourceNotFoundException("Genre not found with id " + id);
+            }
         }
 
-        if (count > 0) {
-            for (Movie m : movies) {
-                if (m.getGenres() != null) {
-                    m.getGenres().removeIf(g -> g.getId().equals(id));
-                }
+        if (!force) {
+            List<Object[]> counts = genreRepository.countMovies(genreIds);
+            if (!counts.isEmpty()) {
+                Genre genre = genres.get((Long) counts.get(0)[0]);
+                throw new IllegalArgumentException("Cannot delete genre '" + genre.getName() + "' because it has " + counts.get(0)[1] + " associated movies");
             }
-            movieRepository.saveAll(movies);
+        } else {
+            // Cached movies embed the genres; collect them before the links are gone.
+            CacheConfig.evictAfterCommit(cacheManager, CacheConfig.MOVIES, movieRepository.findIdsByGenreIds(genreIds));
+            genreRepository.deleteMovieLinks(genreIds);
+            eventPublisher.publishEvent(CatalogLinksChangedEvent.genres(genreIds));
+        }
+        genreRepository.deleteByIds(genreIds);
+        CacheConfig.evictAfterCommit(cacheManager, CacheConfig.GENRES, genreIds);
+        CacheConfig.evictAfterCommit(cacheManager, CacheConfig.GENRE_LIST, List.of("all"));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<Movie> moviesInGenre(Long genreId, Pageable pageable) {
+        if (!genreRepository.existsById(genreId)) {
+            throw new ResourceNotFoundException("Genre not found with id " + genreId);
         }
-        genreRepository.delete(genre);
+        return movieService.moviesByGenre(genreId, pageable);
     }
 
     @Override
-    public List<Movie> moviesInGenre(Long genreId) {
-        getGenreById(genreId);
-        return movieRepository.findByGenres_Id(genreId);
+    @Transactional(readOnly = true)
+    public List<GenreSummary> genreSummaries(FieldSelection fields) {
+        return genreRepository.findSummaries(fields);
     }
 }
@@ -0,0 +1,42 @@
+package com.kood.movieapi.serviceimpl;
+
+import org.springframework.cache.Cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+// Loads entities for a list of ids: entries already in the by-id cache are taken from it, the
+// rest are read with IN queries of at most CHUNK ids, which keeps each statement well under
+// SQLite's bound-parameter limit. Ids that do not exist are simply absent from the result.
+final class IdBatches {
+
+    static final int CHUNK = 500;
+
+    private IdBatches() {
+    }
+
+    static <T> Map<Long, T> load(Collection<Long> ids, Cache cache, Class<T> type,
+                                 Function<List<Long>, ? extends Iterable<T>> loader, Function<T, Long> idOf) {
+        Map<Long, T> found = new HashMap<>();
+        List<Long> misses = new ArrayList<>();
+        for (Long id : new LinkedHashSet<>(ids)) {
+            T cached = cache == null ? null : cache.get(id, type);
+            if (cached != null) {
+                found.put(id, cached);
+            } else {
+                misses.add(id);
+            }
+        }
+        for (int from = 0; from < misses.size(); from += CHUNK) {
+            for (T entity : loader.apply(misses.subList(from, Math.min(misses.size(), from + CHUNK)))) {
+                found.put(idOf.apply(entity), entity);
+            }
+        }
+        return found;
+    }
+}
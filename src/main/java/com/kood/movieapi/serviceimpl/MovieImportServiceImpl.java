@@ -0,0 +1,214 @@
+package com.kood.movieapi.serviceimpl;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kood.movieapi.config.SequentialIdGenerator;
+import com.kood.movieapi.dto.CatalogLinksChangedEvent;
+import com.kood.movieapi.dto.ImportResult;
+import com.kood.movieapi.dto.ImportResult.ImportError;
+import com.kood.movieapi.entity.Movie;
+import com.kood.movieapi.service.MovieImportService;
+import jakarta.persistence.EntityManagerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+// Bulk ingest for the sample-data/movies.json format. The array is read one record at a
+// time, so memory does not depend on the input size. Valid records are written in chunked
+// JDBC batches, one transaction per chunk, bypassing the persistence context.
+@Service
+public class MovieImportServiceImpl implements MovieImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(MovieImportServiceImpl.class);
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final ObjectMapper objectMapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final SequentialIdGenerator movieIds;
+    private final int chunkSize;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public MovieImportServiceImpl(ObjectMapper objectMapper,
+                                  JdbcTemplate jdbcTemplate,
+                                  PlatformTransactionManager transactionManager,
+                                  EntityManagerFactory entityManagerFactory,
+                                  @Value("${movieapi.import.chunk-size:10000}") int chunkSize,
+                                  ApplicationEventPublisher eventPublisher) {
+        this.objectMapper = objectMapper;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.movieIds = SequentialIdGenerator.forEntity(entityManagerFactory, Movie.class);
+        this.chunkSize = chunkSize;
+        this.eventPublisher = eventPublisher;
+    }
+
+    private record MovieRecord(long index, String title, int releaseYear, int duration,
+                               Set<Long> genreIds, Set<Long> actorIds) {
+    }
+
+    @Override
+    public ImportResult importMovies(InputStream json) throws IOException {
+        Set<Long> genreIds = new HashSet<>(jdbcTemplate.queryForList("SELECT id FROM genre", Long.class));
+        Set<Long> actorIds = new HashSet<>(jdbcTemplate.queryForList("SELECT id FROM actor", Long.class));
+
+        List<ImportError> errors = new ArrayList<>();
+        List<MovieRecord> chunk = new ArrayList<>(chunkSize);
+        long received = 0;
+        long imported = 0;
+        long failed = 0;
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("Expected a JSON array of movies");
+            }
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) {
+                    throw new IllegalArgumentException("Unexpected end of input after record " + received);
+                }
+                long index = received++;
+                try {
+                    JsonNode node = objectMapper.readTree(parser);
+                    chunk.add(toRecord(index, node, genreIds, actorIds));
+                } catch (IllegalArgumentException ex) {
+                    failed++;
+                    report(errors, new ImportError(index, ex.getMessage()));
+                    continue;
+                }
+                if (chunk.size() >= chunkSize) {
+                    long written = writeChunk(chunk, errors);
+                    imported += written;
+                    failed += chunk.size() - written;
+                    chunk.clear();
+                }
+            }
+        } catch (JsonProcessingException ex) {
+            // Malformed JSON cannot be resynchronised; keep what was read so far.
+            failed++;
+            report(errors, new ImportError(received, "Malformed JSON: " + ex.getOriginalMessage()));
+        }
+        if (!chunk.isEmpty()) {
+            long written = writeChunk(chunk, errors);
+            imported += written;
+            failed += chunk.size() - written;
+        }
+
+        log.info("Movie import finished: received={}, imported={}, failed={}", received, imported, failed);
+        return new ImportResult(received, imported, failed, errors);
+    }
+
+    private MovieRecord toRecord(long index, JsonNode node, Set<Long> knownGenres, Set<Long> knownActors) {
+        if (!node.isObject()) {
+            throw new IllegalArgumentException("Movie must be a JSON object");
+        }
+        String title = node.path("title").asText("").trim();
+        if (title.isEmpty()) {
+            throw new IllegalArgumentException("Title is required");
+        }
+        int releaseYear = requiredInt(node.get("releaseYear"), "Release year is required", "releaseYear");
+        int duration = requiredInt(node.get("duration"), "Duration in minutes is required", "duration");
+        Set<Long> genreIds = references(node.get("genres"), knownGenres, "genres");
+        Set<Long> actorIds = references(node.get("actors"), knownActors, "actors");
+        return new MovieRecord(index, title, releaseYear, duration, genreIds, actorIds);
+    }
+
+    private int requiredInt(JsonNode value, String missingMessage, String field) {
+        if (value == null || value.isNull()) {
+            throw new IllegalArgumentException(missingMessage);
+        }
+        if (value.canConvertToInt()) {
+            return value.asInt();
+        }
+        try {
+            return Integer.parseInt(value.asText().trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid type for " + field);
+        }
+    }
+
+    private Set<Long> references(JsonNode refs, Set<Long> known, String field) {
+        Set<Long> ids = new LinkedHashSet<>();
+        if (refs == null || refs.isNull()) return ids;
+        if (!refs.isArray()) {
+            throw new IllegalArgumentException("Invalid type for " + field);
+        }
+        for (JsonNode ref : refs) {
+            JsonNode id = ref.get("id");
+            if (id == null || !id.canConvertToLong()) {
+                throw new IllegalArgumentException("Id is required in " + field + " list");
+            }
+            if (!known.contains(id.asLong())) {
+                throw new IllegalArgumentException("Unknown id " + id.asLong() + " in " + field);
+            }
+            ids.add(id.asLong());
+        }
+        return ids;
+    }
+
+    private long writeChunk(List<MovieRecord> chunk, List<ImportError> errors) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> insertChunk(chunk));
+            return chunk.size();
+        } catch (RuntimeException ex) {
+            log.warn("Movie import chunk starting at record {} failed: {}", chunk.get(0).index(), ex.getMessage());
+            for (MovieRecord record : chunk) {
+                report(errors, new ImportError(record.index(), "Write failed: " + ex.getMessage()));
+            }
+            return 0;
+        }
+    }
+
+    private void insertChunk(List<MovieRecord> chunk) {
+        // Ids come from the same generator Hibernate uses, so JPA inserts cannot collide with them.
+        long nextId = movieIds.reserve(chunk.size(),
+                () -> jdbcTemplate.queryForObject("SELECT coalesce(max(id), 0) FROM movie", Long.class));
+
+        // Setting updated_at here spares the per-row insert trigger (see SQLiteSchemaMigrator).
+        long now = System.currentTimeMillis();
+        List<Object[]> movies = new ArrayList<>(chunk.size());
+        List<Object[]> movieGenres = new ArrayList<>();
+        List<Object[]> movieActors = new ArrayList<>();
+        List<Long> ids = new ArrayList<>(chunk.size());
+        for (MovieRecord record : chunk) {
+            long id = nextId++;
+            ids.add(id);
+            Date legacyDate = record.releaseYear() > 0 ? Date.valueOf(LocalDate.of(record.releaseYear(), 1, 1)) : null;
+            movies.add(new Object[]{id, record.title(), record.releaseYear(), record.duration(), legacyDate, now});
+            for (Long genreId : record.genreIds()) {
+                movieGenres.add(new Object[]{id, genreId});
+            }
+            for (Long actorId : record.actorIds()) {
+                movieActors.add(new Object[]{id, actorId});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO movie (id, title, release_year, duration, release_date, updated_at) VALUES (?, ?, ?, ?, ?, ?)", movies);
+        jdbcTemplate.batchUpdate("INSERT INTO movie_genre (movie_id, genre_id) VALUES (?, ?)", movieGenres);
+        jdbcTemplate.batchUpdate("INSERT INTO movie_actor (movie_id, actor_id) VALUES (?, ?)", movieActors);
+        eventPublisher.publishEvent(CatalogLinksChangedEvent.movies(ids));
+    }
+
+    private void report(List<ImportError> errors, ImportError error) {
+        if (errors.size() < MAX_REPORTED_ERRORS) {
+            errors.add(error);
+        }
+    }
+}
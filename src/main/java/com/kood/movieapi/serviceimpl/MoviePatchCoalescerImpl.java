@@ -0,0 +1,162 @@
+package com.kood.movieapi.serviceimpl;
+
+import com.kood.movieapi.entity.Movie;
+import com.kood.movieapi.exception.DatabaseBusyException;
+import com.kood.movieapi.service.MovieService;
+import com.kood.movieapi.service.MoviePatchCoalescer;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+// Opt-in write-behind for PATCH /api/movies/{id} (movieapi.patch-coalescing.enabled).
+// Patches that arrive within window-ms of each other, up to max-batch, are committed by one
+// flusher thread in a single transaction: each movie is loaded once, its patches are applied
+// in arrival order and the whole group takes the SQLite writer lock once. Callers block until
+// that transaction has committed, so a read after the response sees the write.
+// If the grouped transaction fails, its patches are retried one by one, so a bad patch fails
+// only its own caller; a busy writer fails the whole group with 503 straight away.
+@Service
+public class MoviePatchCoalescerImpl implements MoviePatchCoalescer, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(MoviePatchCoalescerImpl.class);
+
+    private final MovieService movieService;
+    private final boolean enabled;
+    private final long windowNanos;
+    private final int maxBatch;
+    private final long waitMs;
+    private final DistributionSummary batchSizes;
+    private final BlockingQueue<PendingPatch> queue = new LinkedBlockingQueue<>();
+    private final Thread flusher;
+    private volatile boolean running = true;
+
+    public MoviePatchCoalescerImpl(MovieService movieService, MeterRegistry meterRegistry,
+                                   @Value("${movieapi.patch-coalescing.enabled:false}") boolean enabled,
+                                   @Value("${movieapi.patch-coalescing.window-ms:5}") long windowMs,
+                                   @Value("${movieapi.patch-coalescing.max-batch:256}") int maxBatch,
+                                   @Value("${movieapi.sqlite.writer-wait-ms:30000}") long writerWaitMs) {
+        this.movieService = movieService;
+        this.enabled = enabled;
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMs);
+        this.maxBatch = maxBatch;
+        this.waitMs = windowMs + writerWaitMs;
+        this.batchSizes = DistributionSummary.builder("movieapi.patch.batch.size")
+                .description("Movie patches committed per coalesced transaction")
+                .register(meterRegistry);
+        this.flusher = new Thread(this::flushLoop, "movie-patch-flusher");
+        this.flusher.setDaemon(true);
+        if (enabled) {
+            flusher.start();
+        }
+    }
+
+    @Override
+    public Movie patchMovie(Long id, Map<String, Object> updates) {
+        if (!enabled) {
+            return movieService.patchMovie(id, updates);
+        }
+        if (!running) {
+            throw new DatabaseBusyException("Shutting down; movie " + id + " was not updated");
+        }
+        PendingPatch patch = new PendingPatch(id, updates, new CompletableFuture<>());
+        queue.add(patch);
+        if (!running && queue.remove(patch)) {
+            throw new DatabaseBusyException("Shutting down; movie " + id + " was not updated");
+        }
+        try {
+            return patch.result.get(waitMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(ex.getCause());
+        } catch (TimeoutException ex) {
+            throw new DatabaseBusyException("Update of movie " + id + " not confirmed within " + waitMs
+                    + " ms; it may still be applied");
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new DatabaseBusyException("Interrupted waiting for the update of movie " + id);
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        flusher.interrupt();
+        flusher.join(waitMs);
+    }
+
+    private void flushLoop() {
+        while (running || !queue.isEmpty()) {
+            List<PendingPatch> batch = new ArrayList<>();
+            try {
+                PendingPatch first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+                batch.add(first);
+                long deadline = System.nanoTime() + windowNanos;
+                while (batch.size() < maxBatch) {
+                    PendingPatch next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (next == null) break;
+                    batch.add(next);
+                }
+            } catch (InterruptedException ex) {
+                // Shutting down: commit what is queued without waiting out the window.
+                queue.drainTo(batch, maxBatch - batch.size());
+            }
+            if (!batch.isEmpty()) {
+                flush(batch);
+            }
+        }
+    }
+
+    private void flush(List<PendingPatch> batch) {
+        batchSizes.record(batch.size());
+        Map<Long, List<Map<String, Object>>> byMovie = new LinkedHashMap<>();
+        for (PendingPatch patch : batch) {
+            byMovie.computeIfAbsent(patch.id, k -> new ArrayList<>()).add(patch.updates);
+        }
+        try {
+            Map<Long, Movie> movies = movieService.patchMovies(byMovie);
+            batch.forEach(patch -> patch.result.complete(movies.get(patch.id)));
+        } catch (RuntimeException ex) {
+            if (batch.size() == 1 || isBusy(ex)) {
+                batch.forEach(patch -> patch.result.completeExceptionally(ex));
+                return;
+            }
+            log.debug("Coalesced update of {} movie patches failed, retrying them one by one: {}",
+                    batch.size(), ex.getMessage());
+            for (PendingPatch patch : batch) {
+                try {
+                    patch.result.complete(movieService.patchMovie(patch.id, patch.updates));
+                } catch (RuntimeException single) {
+                    patch.result.completeExceptionally(single);
+                }
+            }
+        }
+    }
+
+    private static boolean isBusy(Throwable ex) {
+        for (Throwable t = ex; t != null; t = t.getCause() == t ? null : t.getCause()) {
+            if (t instanceof DatabaseBusyException) return true;
+        }
+        return false;
+    }
+
+    private record PendingPatch(Long id, Map<String, Object> updates, CompletableFuture<Movie> result) {
+    }
+}
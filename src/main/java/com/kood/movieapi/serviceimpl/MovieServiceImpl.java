@@ -1,20 +1,41 @@
 package com.kood.movieapi.serviceimpl;
 
+import com.kood.movieapi.config.CacheConfig;
+import com.kood.movieapi.dto.CatalogLinksChangedEvent;
+import com.kood.movieapi.dto.FieldSelection;
+import com.kood.movieapi.dto.MovieFilter;
+import com.kood.movieapi.dto.MovieSummary;
 import com.kood.movieapi.entity.Actor;
 import com.kood.movieapi.entity.Genre;
 import com.kood.movieapi.entity.Movie;
+import com.kood.movieapi.pagination.CursorSlice;
+import com.kood.movieapi.pagination.MovieCursor;
+import com.kood.movieapi.pagination.PageLimits;
 import com.kood.movieapi.repository.ActorRepository;
 import com.kood.movieapi.repository.GenreRepository;
 import com.kood.movieapi.repository.MovieRepository;
 import com.kood.movieapi.service.MovieService;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.ArrayList;
+import java.util.Objects;
+import java.util.Set;
 
 @Service
 @Transactional
@@ -23,32 +44,51 @@ public class MovieServiceImpl implements MovieService {
     private final MovieRepository movieRepository;
     private final ActorRepository actorRepository;
     private final GenreRepository genreRepository;
+    private final CacheManager cacheManager;
+    private final ApplicationEventPublisher eventPublisher;
 
     public MovieServiceImpl(MovieRepository movieRepository,
                             ActorRepository actorRepository,
-                            GenreRepository genreRepository) {
+                            GenreRepository genreRepository,
+                            CacheManager cacheManager,
+                            ApplicationEventPublisher eventPublisher) {
         this.movieRepository = movieRepository;
         this.actorRepository = actorRepository;
         this.genreRepository = genreRepository;
+        this.cacheManager = cacheManager;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Movie> getAllMovies() {
         return movieRepository.findAll();
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<Movie> getAllMovies(Pageable pageable) {
-        return movieRepository.findAll(pageable);
+        return findMovies(MovieFilter.none(), pageable);
     }
 
     @Override
+    @Cacheable(cacheNames = CacheConfig.MOVIES, key = "#id")
+    @Transactional(readOnly = true)
     public Movie getMovieById(Long id) {
-        return movieRepository.findById(id)
+        return fetchWithAssociations(List.of(id)).stream()
+                .findFirst()
                 .orElseThrow(() -> new com.kood.movieapi.exception.ResourceNotFoundException("Movie not found with id " + id));
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public Map<Long, Movie> getMoviesByIds(Collection<Long> ids) {
+        return IdBatches.load(ids, cacheManager.getCache(CacheConfig.MOVIES), Movie.class,
+                this::fetchWithAssociations, Movie::getId);
+    }
+
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.MOVIES, key = "#result.id")
     public Movie createMovie(Movie movie) {
         if (movie.getReleaseYear() != null && movie.getReleaseYear() > 0) {
             try {
@@ -65,7 +105,7 @@ public class MovieServiceImpl implements MovieService {
             if (managedGenres.size() != genreIds.size()) {
                 throw new IllegalArgumentException("One or more genres not found by provided IDs");
             }
-            movie.setGenres(managedGenres);
+            movie.setGenres(new LinkedHashSet<>(managedGenres));
         }
 
         if (movie.getActors() != null && !movie.getActors().isEmpty()) {
@@ -76,17 +116,58 @@ public class MovieServiceImpl implements MovieService {
             if (managedActors.size() != ids.size()) {
                 throw new IllegalArgumentException("One or more actors not found by provided IDs");
             }
-            movie.setActors(managedActors);
+            movie.setActors(new LinkedHashSet<>(managedActors));
         }
 
-        return movieRepository.save(movie);
+        Movie saved = movieRepository.save(movie);
+        eventPublisher.publishEvent(CatalogLinksChangedEvent.movies(List.of(saved.getId())));
+        return saved;
     }
 
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.MOVIES, key = "#id")
     public Movie patchMovie(Long id, Map<String, Object> updates) {
         Movie movie = getMovieById(id);
+        applyPatch(movie, updates);
+        if (changesLinks(updates)) {
+            eventPublisher.publishEvent(CatalogLinksChangedEvent.movies(List.of(id)));
+        }
+        return movieRepository.save(movie);
+    }
+
+    @Override
+    public Map<Long, Movie> patchMovies(Map<Long, List<Map<String, Object>>> patches) {
+        List<Long> ids = new ArrayList<>(patches.keySet());
+        Map<Long, Movie> movies = new HashMap<>();
+        for (Movie m : fetchWithAssociations(ids)) {
+            movies.put(m.getId(), m);
+        }
+        for (Long id : ids) {
+            Movie movie = movies.get(id);
+            if (movie == null) {
+                throw new com.kood.movieapi.exception.ResourceNotFoundException("Movie not found with id " + id);
+            }
+            // Applied in arrival order, so a later patch of the same field wins as it would unbatched.
+            patches.get(id).forEach(updates -> applyPatch(movie, updates));
+        }
+        movieRepository.saveAll(movies.values());
+        CacheConfig.evictAfterCommit(cacheManager, CacheConfig.MOVIES, ids);
+        List<Long> relinked = ids.stream()
+                .filter(id -> patches.get(id).stream().anyMatch(MovieServiceImpl::changesLinks))
+                .toList();
+        if (!relinked.isEmpty()) {
+            eventPublisher.publishEvent(CatalogLinksChangedEvent.movies(relinked));
+        }
+        return movies;
+    }
 
+    private static boolean changesLinks(Map<String, Object> updates) {
+        return updates.containsKey("actors") || updates.containsKey("genres");
+    }
+
+    private void applyPatch(Movie movie, Map<String, Object> updates) {
+        Long id = movie.getId();
         updates.forEach((key, value) -> {
             switch (key) {
                 case "id" -> {
@@ -158,7 +239,7 @@ public class MovieServiceImpl implements MovieService {
                         if (managedGenres.size() != ids.size()) {
                             throw new IllegalArgumentException("One or more genres not found by provided IDs");
                         }
-                        movie.setGenres(managedGenres);
+                        replaceElements(movie.getGenres(), managedGenres);
                     } else {
                         throw new IllegalArgumentException("Invalid type for genres");
                     }
@@ -190,7 +271,7 @@ public class MovieServiceImpl implements MovieService {
                         if (managedActors.size() != ids.size()) {
                             throw new IllegalArgumentException("One or more actors not found by provided IDs");
                         }
-                        movie.setActors(managedActors);
+                        replaceElements(movie.getActors(), managedActors);
                     } else {
                         throw new IllegalArgumentException("Invalid type for actors");
                     }
@@ -198,53 +279,148 @@ public class MovieServiceImpl implements MovieService {
                 default -> throw new IllegalArgumentException("Unknown field: " + key);
             }
         });
-
-        return movieRepository.save(movie);
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.MOVIES, key = "#id")
     public void deleteMovie(Long id) {
         movieRepository.deleteById(id);
+        eventPublisher.publishEvent(CatalogLinksChangedEvent.movies(List.of(id)));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Movie> moviesByGenre(Long genreId) {
         return movieRepository.findByGenres_Id(genreId);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<Movie> moviesByGenre(Long genreId, Pageable pageable) {
-        return movieRepository.findByGenres_Id(genreId, pageable);
+        return findMovies(MovieFilter.byGenre(genreId), pageable);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Movie> moviesByYear(Integer year) {
         return movieRepository.findByReleaseYear(year);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<Movie> moviesByYear(Integer year, Pageable pageable) {
-        return movieRepository.findByReleaseYear(year, pageable);
+        return findMovies(MovieFilter.byYear(year), pageable);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Movie> moviesByActor(Long actorId) {
         return movieRepository.findByActors_Id(actorId);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<Movie> moviesByActor(Long actorId, Pageable pageable) {
-        return movieRepository.findByActors_Id(actorId, pageable);
+        return findMovies(MovieFilter.byActor(actorId), pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<Actor> actorsInMovie(Long movieId, Pageable pageable) {
+        if (!movieRepository.existsById(movieId)) {
+            throw new com.kood.movieapi.exception.ResourceNotFoundException("Movie not found with id " + movieId);
+        }
+        return actorRepository.findByMovieId(movieId, PageLimits.sortedById(pageable, "actors"));
     }
 
     @Override
-    public List<Actor> actorsInMovie(Long movieId) {
-        Movie movie = getMovieById(movieId);
-        return movie.getActors();
+    @Transactional(readOnly = true)
+    public Page<Movie> findMovies(MovieFilter filter, Pageable pageable) {
+        return withAssociations(movieRepository.findIds(filter, pageable));
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public Slice<Movie> moviesAfter(MovieFilter filter, String after, Pageable pageable) {
+        Sort.Order order = MovieCursor.singleOrder(pageable.getSort());
+        MovieCursor cursor = after.isBlank() ? null : MovieCursor.decode(after.trim(), order);
+
+        int size = pageable.getPageSize();
+        List<Long> ids = movieRepository.findIdsAfter(filter, order, cursor, size + 1);
+        boolean hasNext = ids.size() > size;
+        List<Movie> movies = fetchWithAssociations(hasNext ? ids.subList(0, size) : ids);
+        String nextCursor = hasNext ? MovieCursor.after(movies.get(movies.size() - 1), order).encode() : null;
+        return new CursorSlice<>(movies, PageRequest.of(0, size, Sort.by(order)), hasNext, nextCursor);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<MovieSummary> findMovieSummaries(MovieFilter filter, FieldSelection fields, Pageable pageable) {
+        return movieRepository.findSummaries(filter, fields, pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<MovieSummary> movieSummariesAfter(MovieFilter filter, FieldSelection fields, String after, Pageable pageable) {
+        Sort.Order order = MovieCursor.singleOrder(pageable.getSort());
+        MovieCursor cursor = after.isBlank() ? null : MovieCursor.decode(after.trim(), order);
+
+        // The next cursor is read from the last row, so its id and sort key are always selected,
+        // then dropped from the rows unless they were requested.
+        int size = pageable.getPageSize();
+        List<MovieSummary> rows = movieRepository.findSummariesAfter(
+                filter, fields.with("id", order.getProperty()), order, cursor, size + 1);
+        boolean hasNext = rows.size() > size;
+        List<MovieSummary> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? MovieCursor.after(content.get(content.size() - 1), order).encode() : null;
+        List<MovieSummary> selected = content.stream().map(row -> selected(row, fields)).toList();
+        return new CursorSlice<>(selected, PageRequest.of(0, size, Sort.by(order)), hasNext, nextCursor);
+    }
+
+    private static MovieSummary selected(MovieSummary row, FieldSelection fields) {
+        return new MovieSummary(
+                fields.includes("id") ? row.id() : null,
+                fields.includes("title") ? row.title() : null,
+                fields.includes("releaseYear") ? row.releaseYear() : null,
+                fields.includes("duration") ? row.duration() : null);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Page<Movie> searchMoviesByTitle(String title, Pageable pageable) {
-        return movieRepository.findByTitleContainingIgnoreCase(title, pageable);
+        String query = FullTextQueries.prefixMatch(title);
+        if (query.isEmpty()) {
+            return getAllMovies(pageable);
+        }
+        Pageable byRelevance = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+        return withAssociations(movieRepository.searchTitleIds(query, byRelevance).map(Number::longValue));
+    }
+
+    // Edits the managed set in place rather than replacing it, so Hibernate flushes only
+    // the removed and added join rows instead of deleting and reinserting all of them.
+    private static <T> void replaceElements(Set<T> current, Collection<T> wanted) {
+        current.retainAll(wanted);
+        current.addAll(wanted);
+    }
+
+    // Second phase of a paged listing: loads the page's movies with actors and genres
+    // initialized, so serializing the page does not fall back to lazy loading.
+    private Page<Movie> withAssociations(Page<Long> ids) {
+        return new PageImpl<>(fetchWithAssociations(ids.getContent()), ids.getPageable(), ids.getTotalElements());
+    }
+
+    private List<Movie> fetchWithAssociations(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<Long, Movie> byId = new HashMap<>();
+        for (Movie m : movieRepository.findWithActorsByIdIn(ids)) {
+            byId.put(m.getId(), m);
+        }
+        movieRepository.findWithGenresByIdIn(ids);
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
 }
@@ -0,0 +1,86 @@
+package com.kood.movieapi.serviceimpl;
+
+import com.kood.movieapi.dto.ResourceVersion;
+import com.kood.movieapi.exception.ResourceNotFoundException;
+import com.kood.movieapi.service.ResourceVersionService;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// Reads the version/updated_at columns and catalog_versions maintained by the triggers of
+// SQLiteSchemaMigrator. Each lookup is one indexed query; nothing is loaded into the
+// persistence context, so a 304 costs neither entity hydration nor serialization.
+@Service
+@Transactional(readOnly = true)
+public class ResourceVersionServiceImpl implements ResourceVersionService {
+
+    // Link changes bump the movie's own version and actor/genre versions only grow, so
+    // (movie version, sum of actor versions, sum of genre versions) never repeats.
+    private static final String MOVIE_VERSION = """
+            SELECT m.version AS version,
+                   (SELECT coalesce(sum(a.version), 0) FROM movie_actor ma JOIN actor a ON a.id = ma.actor_id
+                     WHERE ma.movie_id = m.id) AS actors,
+                   (SELECT coalesce(sum(g.version), 0) FROM movie_genre mg JOIN genre g ON g.id = mg.genre_id
+                     WHERE mg.movie_id = m.id) AS genres,
+                   max(coalesce(m.updated_at, 0),
+                       coalesce((SELECT max(a.updated_at) FROM movie_actor ma JOIN actor a ON a.id = ma.actor_id
+                                  WHERE ma.movie_id = m.id), 0),
+                       coalesce((SELECT max(g.updated_at) FROM movie_genre mg JOIN genre g ON g.id = mg.genre_id
+                                  WHERE mg.movie_id = m.id), 0)) AS updated_at
+              FROM movie m WHERE m.id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ResourceVersionServiceImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public ResourceVersion movieVersion(Long id) {
+        List<ResourceVersion> versions = jdbcTemplate.query(MOVIE_VERSION, (rs, rowNum) -> new ResourceVersion(
+                "movie-" + id + "-" + rs.getLong("version") + "." + rs.getLong("actors") + "." + rs.getLong("genres"),
+                rs.getLong("updated_at")), id);
+        return single(versions, "Movie not found with id " + id);
+    }
+
+    @Override
+    public ResourceVersion actorVersion(Long id) {
+        return rowVersion("actor", id, "Actor not found with id " + id);
+    }
+
+    @Override
+    public ResourceVersion genreVersion(Long id) {
+        return rowVersion("genre", id, "Genre not found with id " + id);
+    }
+
+    @Override
+    public ResourceVersion catalogVersion(String... tables) {
+        String placeholders = Arrays.stream(tables).map(t -> "?").collect(Collectors.joining(", "));
+        List<long[]> rows = jdbcTemplate.query(
+                "SELECT version, updated_at FROM catalog_versions WHERE name IN (" + placeholders + ") ORDER BY name",
+                (rs, rowNum) -> new long[]{rs.getLong("version"), rs.getLong("updated_at")}, (Object[]) tables);
+        String versions = rows.stream().map(row -> Long.toString(row[0])).collect(Collectors.joining("."));
+        long lastModified = rows.stream().mapToLong(row -> row[1]).max().orElse(0);
+        return new ResourceVersion(String.join("+", tables) + "-" + versions, lastModified);
+    }
+
+    private ResourceVersion rowVersion(String table, Long id, String notFound) {
+        List<ResourceVersion> versions = jdbcTemplate.query(
+                "SELECT version, updated_at FROM " + table + " WHERE id = ?",
+                (rs, rowNum) -> new ResourceVersion(table + "-" + id + "-" + rs.getLong("version"), rs.getLong("updated_at")),
+                id);
+        return single(versions, notFound);
+    }
+
+    private static ResourceVersion single(List<ResourceVersion> versions, String notFound) {
+        if (versions.isEmpty()) {
+            throw new ResourceNotFoundException(notFound);
+        }
+        return versions.get(0);
+    }
+}
@@ -0,0 +1,98 @@
+package com.kood.movieapi.serviceimpl;
+
+import com.kood.movieapi.config.SQLiteSchemaMigrator;
+import com.kood.movieapi.dto.ActorStats;
+import com.kood.movieapi.dto.CatalogTotals;
+import com.kood.movieapi.dto.GenreStats;
+import com.kood.movieapi.dto.YearStats;
+import com.kood.movieapi.exception.ResourceNotFoundException;
+import com.kood.movieapi.service.StatsService;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Reads the stats_* summary tables that the triggers of SQLiteSchemaMigrator (migration 8)
+// keep up to date on every movie, actor, genre and link change. A read touches one row per
+// genre, year or listed actor, however many movies there are. rebuild() recomputes the
+// tables from the catalog with the migrator's rebuild SQL, in one transaction.
+@Service
+@Transactional(readOnly = true)
+public class StatsServiceImpl implements StatsService {
+
+    private static final int MAX_TOP_ACTORS = 100;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public StatsServiceImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public CatalogTotals totals() {
+        Map<String, Long> values = new HashMap<>();
+        jdbcTemplate.query("SELECT name, value FROM stats_totals",
+                rs -> { values.put(rs.getString("name"), rs.getLong("value")); });
+        return new CatalogTotals(values.getOrDefault("movie", 0L), values.getOrDefault("actor", 0L),
+                values.getOrDefault("genre", 0L));
+    }
+
+    @Override
+    public List<GenreStats> genreStats() {
+        return jdbcTemplate.query("""
+                SELECT s.genre_id, g.name, s.movie_count, s.timed_movies, s.total_duration
+                  FROM stats_genre s JOIN genre g ON g.id = s.genre_id
+                 ORDER BY s.genre_id
+                """, (rs, rowNum) -> {
+            long timed = rs.getLong("timed_movies");
+            return new GenreStats(rs.getLong("genre_id"), rs.getString("name"), rs.getLong("movie_count"),
+                    timed > 0 ? rs.getLong("total_duration") / (double) timed : null);
+        });
+    }
+
+    @Override
+    public List<YearStats> yearStats() {
+        return jdbcTemplate.query(
+                "SELECT release_year, movie_count FROM stats_year WHERE movie_count > 0 ORDER BY release_year",
+                (rs, rowNum) -> new YearStats(rs.getInt("release_year"), rs.getLong("movie_count")));
+    }
+
+    @Override
+    public List<ActorStats> topActors(int limit) {
+        if (limit < 1 || limit > MAX_TOP_ACTORS) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_TOP_ACTORS);
+        }
+        // Walks idx_stats_actor_count from the top; no sort.
+        return jdbcTemplate.query("""
+                SELECT s.actor_id, a.name, s.movie_count
+                  FROM stats_actor s JOIN actor a ON a.id = s.actor_id
+                 ORDER BY s.movie_count DESC, s.actor_id
+                 LIMIT ?
+                """, (rs, rowNum) -> new ActorStats(rs.getLong("actor_id"), rs.getString("name"),
+                rs.getLong("movie_count")), limit);
+    }
+
+    @Override
+    public ActorStats actorStats(Long actorId) {
+        List<ActorStats> stats = jdbcTemplate.query("""
+                SELECT a.id, a.name, coalesce(s.movie_count, 0) AS movie_count
+                  FROM actor a LEFT JOIN stats_actor s ON s.actor_id = a.id
+                 WHERE a.id = ?
+                """, (rs, rowNum) -> new ActorStats(rs.getLong("id"), rs.getString("name"),
+                rs.getLong("movie_count")), actorId);
+        if (stats.isEmpty()) {
+            throw new ResourceNotFoundException("Actor not found with id " + actorId);
+        }
+        return stats.get(0);
+    }
+
+    @Override
+    @Transactional
+    public CatalogTotals rebuild() {
+        SQLiteSchemaMigrator.rebuildStatistics(jdbcTemplate);
+        return totals();
+    }
+}
@@ -0,0 +1,40 @@
+package com.kood.movieapi.analytics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CoStarGraphTests {
+
+    // Far beyond any array the graph could allocate if it indexed by id.
+    private static final long BIG = 5_000_000_000L;
+
+    @Test
+    void sparseIdsAreMappedToDenseIndexes() {
+        CoStarGraph graph = new CoStarGraph();
+        graph.addActorLink(BIG + 1, 7);
+        graph.addActorLink(BIG + 1, BIG + 100);
+        graph.addActorLink(3, BIG + 100);
+        graph.addActorLink(3, BIG + 200);
+        graph.addGenreLink(BIG + 1, BIG + 9);
+        graph.addGenreLink(3, BIG + 9);
+
+        assertThat(graph.coStars(BIG + 100, 10)).extracting(CoStarGraph.Ranked::id)
+                .containsExactlyInAnyOrder(7L, BIG + 200);
+        CoStarGraph.Path path = graph.shortestPath(7, BIG + 200);
+        assertThat(path.actors()).containsExactly(7L, BIG + 100, BIG + 200);
+        assertThat(path.movies()).containsExactly(BIG + 1, 3L);
+        assertThat(graph.similarMovies(3, 5)).extracting(CoStarGraph.Ranked::id).containsExactly(BIG + 1);
+        assertThat(graph.moviesOfGenre(BIG + 9)).containsExactlyInAnyOrder(BIG + 1, 3L);
+
+        graph.setMovie(BIG + 1, new long[]{7}, new long[0]);
+        assertThat(graph.coStars(BIG + 100, 10)).extracting(CoStarGraph.Ranked::id).containsExactly(BIG + 200);
+        assertThat(graph.shortestPath(7, BIG + 200)).isNull();
+        assertThat(graph.coStars(42, 10)).isEmpty();
+        assertThat(graph.shortestPath(42, 7)).isNull();
+        assertThat(graph.moviesOfActor(42)).isEmpty();
+        assertThat(graph.shortestPath(42, 42).actors()).isEqualTo(List.of(42L));
+    }
+}
@@ -0,0 +1,35 @@
+package com.kood.movieapi.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:sqlite:target/schema-migrator-tests.db",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false"
+})
+class SQLiteSchemaMigratorTests {
+
+    @Autowired
+    private SQLiteSchemaMigrator migrator;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void recordsMigrationsAndRecreatesMissingIndexes() {
+        assertThat(jdbcTemplate.queryForList("SELECT version FROM schema_migrations ORDER BY version", Integer.class))
+                .containsExactly(1, 2, 3, 4, 5, 6, 7, 8);
+
+        jdbcTemplate.execute("DROP INDEX idx_movie_actor_actor_movie");
+        migrator.run();
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM sqlite_master WHERE type = 'index' AND name = 'idx_movie_actor_actor_movie'",
+                Integer.class)).isEqualTo(1);
+        assertThat(migrator.verifyQueryPlans()).isEmpty();
+    }
+}
@@ -0,0 +1,195 @@
+package com.kood.movieapi.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.kood.movieapi.entity.Actor;
+import com.kood.movieapi.entity.Genre;
+import com.kood.movieapi.entity.Movie;
+import com.kood.movieapi.repository.ActorRepository;
+import com.kood.movieapi.repository.GenreRepository;
+import com.kood.movieapi.repository.MovieRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayInputStream;
+import java.time.LocalDate;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:sqlite:target/conditional-get-tests.db",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "movieapi.response-cache.min-gzip-bytes=0"
+})
+@AutoConfigureMockMvc
+class ConditionalGetTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private MovieRepository movieRepository;
+    @Autowired
+    private ActorRepository actorRepository;
+    @Autowired
+    private GenreRepository genreRepository;
+    @Autowired
+    private CacheManager cacheManager;
+
+    private Movie movie;
+    private Actor actor;
+
+    @BeforeEach
+    void seed() {
+        movieRepository.deleteAll();
+        actorRepository.deleteAll();
+        genreRepository.deleteAll();
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+
+        Genre genre = new Genre();
+        genre.setName("Drama");
+        genre = genreRepository.save(genre);
+        actor = new Actor();
+        actor.setName("Actor");
+        actor.setBirthDate(LocalDate.of(1970, 1, 1));
+        actor = actorRepository.save(actor);
+        movie = new Movie();
+        movie.setTitle("Movie");
+        movie.setReleaseYear(2000);
+        movie.setDuration(100);
+        movie.setGenres(new LinkedHashSet<>(List.of(genre)));
+        movie.setActors(new LinkedHashSet<>(List.of(actor)));
+        movie = movieRepository.save(movie);
+    }
+
+    @Test
+    void movieEtagChangesWithEmbeddedActors() throws Exception {
+        String url = "/api/movies/" + movie.getId();
+        String etag = etag(url);
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, etag)).andExpect(status().isNotModified());
+
+        patchJson("/api/actors/" + actor.getId(), "{\"name\":\"Renamed\"}");
+        String afterRename = etag(url);
+        assertThat(afterRename).isNotEqualTo(etag);
+
+        patchJson(url, "{\"actors\":[]}");
+        assertThat(etag(url)).isNotEqualTo(afterRename);
+        assertThat(etag(url + "/actors")).isEqualTo(etag(url));
+    }
+
+    @Test
+    void listEtagChangesWhenAnyMemberChanges() throws Exception {
+        String etag = etag("/api/genres");
+        mockMvc.perform(get("/api/genres").header(HttpHeaders.IF_NONE_MATCH, etag)).andExpect(status().isNotModified());
+
+        Genre genre = new Genre();
+        genre.setName("Comedy");
+        genreRepository.save(genre);
+
+        mockMvc.perform(get("/api/genres").header(HttpHeaders.IF_NONE_MATCH, etag)).andExpect(status().isOk());
+    }
+
+    @Test
+    void listResponsesAreServedFromCacheUntilTheCatalogChanges() throws Exception {
+        MockHttpServletResponse first = mockMvc.perform(get("/api/movies?size=5&page=0"))
+                .andExpect(status().isOk()).andReturn().getResponse();
+        MockHttpServletResponse second = mockMvc.perform(get("/api/movies?page=0&size=5"))
+                .andExpect(status().isOk()).andReturn().getResponse();
+        assertThat(first.getHeader("X-Response-Cache")).isEqualTo("miss");
+        assertThat(second.getHeader("X-Response-Cache")).isEqualTo("hit");
+        assertThat(second.getContentAsByteArray()).isEqualTo(first.getContentAsByteArray());
+        assertThat(second.getHeader(HttpHeaders.ETAG)).isEqualTo(first.getHeader(HttpHeaders.ETAG));
+
+        MockHttpServletResponse gzipped = mockMvc.perform(get("/api/movies?page=0&size=5")
+                .header(HttpHeaders.ACCEPT_ENCODING, "br, gzip;q=0.8")).andExpect(status().isOk()).andReturn().getResponse();
+        assertThat(gzipped.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped.getContentAsByteArray()))) {
+            assertThat(in.readAllBytes()).isEqualTo(first.getContentAsByteArray());
+        }
+        // One weak validator for both encodings, and it still answers If-None-Match.
+        assertThat(gzipped.getHeader(HttpHeaders.ETAG)).startsWith("W/").isEqualTo(first.getHeader(HttpHeaders.ETAG));
+        mockMvc.perform(get("/api/movies?page=0&size=5").header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                .header(HttpHeaders.IF_NONE_MATCH, gzipped.getHeader(HttpHeaders.ETAG))).andExpect(status().isNotModified());
+
+        patchJson("/api/movies/" + movie.getId(), "{\"title\":\"Retitled\"}");
+        MockHttpServletResponse afterWrite = mockMvc.perform(get("/api/movies?size=5&page=0"))
+                .andExpect(status().isOk()).andReturn().getResponse();
+        assertThat(afterWrite.getHeader("X-Response-Cache")).isEqualTo("miss");
+        assertThat(afterWrite.getContentAsString()).contains("Retitled");
+    }
+
+    @Test
+    void binaryFormatsCarryTheSameBodyAsJson() throws Exception {
+        String url = "/api/movies/" + movie.getId();
+        MockHttpServletResponse json = mockMvc.perform(get(url)).andExpect(status().isOk()).andReturn().getResponse();
+        assertThat(json.getContentType()).startsWith(MediaType.APPLICATION_JSON_VALUE);
+        Map<?, ?> expected = new ObjectMapper().readValue(json.getContentAsByteArray(), Map.class);
+
+        MockHttpServletResponse cbor = mockMvc.perform(get(url).accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk()).andReturn().getResponse();
+        assertThat(cbor.getContentType()).isEqualTo(MediaType.APPLICATION_CBOR_VALUE);
+        assertThat(cbor.getHeaders(HttpHeaders.VARY)).contains(HttpHeaders.ACCEPT);
+        assertThat(new CBORMapper().readValue(cbor.getContentAsByteArray(), Map.class)).isEqualTo(expected);
+        // Each format has its own validator: a JSON ETag does not revalidate a CBOR body.
+        assertThat(cbor.getHeader(HttpHeaders.ETAG)).isNotEqualTo(json.getHeader(HttpHeaders.ETAG));
+        mockMvc.perform(get(url).accept(MediaType.APPLICATION_CBOR).header(HttpHeaders.IF_NONE_MATCH, json.getHeader(HttpHeaders.ETAG)))
+                .andExpect(status().isOk());
+        mockMvc.perform(get(url).accept(MediaType.APPLICATION_CBOR).header(HttpHeaders.IF_NONE_MATCH, cbor.getHeader(HttpHeaders.ETAG)))
+                .andExpect(status().isNotModified());
+
+        SmileMapper smile = new SmileMapper();
+        mockMvc.perform(patch(url).contentType("application/x-jackson-smile")
+                        .content(smile.writeValueAsBytes(Map.of("title", "Binary"))))
+                .andExpect(status().isOk());
+        MockHttpServletResponse list = mockMvc.perform(get("/api/movies").accept("application/x-jackson-smile"))
+                .andExpect(status().isOk()).andReturn().getResponse();
+        assertThat(smile.readTree(list.getContentAsByteArray()).at("/content/0/title").asText()).isEqualTo("Binary");
+    }
+
+    @Test
+    void batchReadsAnswerEachIdOverGetAndPost() throws Exception {
+        long missing = movie.getId() + 1000;
+        String body = mockMvc.perform(get("/api/movies?ids=" + missing + "," + movie.getId() + "," + movie.getId()))
+                .andExpect(status().isOk()).andReturn().getResponse().getContentAsString();
+        JsonNode result = new ObjectMapper().readTree(body);
+        assertThat(result.get("found").asInt()).isEqualTo(2);
+        assertThat(result.at("/items/0/status").asInt()).isEqualTo(404);
+        assertThat(result.at("/items/1/value/actors/0/name").asText()).isEqualTo("Actor");
+
+        body = mockMvc.perform(post("/api/genres:batchGet").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\":[" + missing + "," + missing + "],\"dedupe\":true}"))
+                .andExpect(status().isOk()).andReturn().getResponse().getContentAsString();
+        assertThat(new ObjectMapper().readTree(body).get("items")).hasSize(1);
+        mockMvc.perform(post("/api/actors:batchGet").contentType(MediaType.APPLICATION_JSON).content("{\"ids\":[]}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private String etag(String url) throws Exception {
+        MockHttpServletResponse response = mockMvc.perform(get(url)).andExpect(status().isOk()).andReturn().getResponse();
+        assertThat(response.getHeader(HttpHeaders.LAST_MODIFIED)).isNotBlank();
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isNotBlank();
+        return response.getHeader(HttpHeaders.ETAG);
+    }
+
+    private void patchJson(String url, String json) throws Exception {
+        mockMvc.perform(patch(url).contentType(MediaType.APPLICATION_JSON).content(json)).andExpect(status().isOk());
+    }
+}
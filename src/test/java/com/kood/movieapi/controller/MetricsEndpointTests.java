@@ -0,0 +1,53 @@
+package com.kood.movieapi.controller;
+
+import com.kood.movieapi.entity.Movie;
+import com.kood.movieapi.repository.MovieRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:sqlite:target/metrics-endpoint-tests.db",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+class MetricsEndpointTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @Test
+    void prometheusExposesServiceStatementPoolAndSQLiteMetrics() throws Exception {
+        Movie movie = new Movie();
+        movie.setTitle("Movie");
+        movie.setReleaseYear(2000);
+        movie.setDuration(100);
+        movie = movieRepository.save(movie);
+        mockMvc.perform(get("/api/movies/" + movie.getId())).andExpect(status().isOk());
+
+        String scrape = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(scrape)
+                .contains("movieapi_service_seconds_count{class=\"MovieServiceImpl\",exception=\"none\",method=\"getMovieById\"")
+                .contains("movieapi_request_statements_count{method=\"GET\",uri=\"/api/movies/{id}\"")
+                .contains("movieapi_jdbc_statements_seconds_bucket{type=\"select\"")
+                .contains("spring_data_repository_invocations_seconds_bucket")
+                .contains("hikaricp_connections_active{pool=\"sqlite-writer\"")
+                .contains("hikaricp_connections_active{pool=\"sqlite-reader\"")
+                .contains("hibernate_statements_total")
+                .contains("sqlite_database_size_bytes");
+    }
+}
@@ -0,0 +1,82 @@
+package com.kood.movieapi.repository;
+
+import com.kood.movieapi.entity.Actor;
+import com.kood.movieapi.entity.Genre;
+import com.kood.movieapi.entity.Movie;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * Measures JPA insert throughput for movies with their movie_actor / movie_genre rows.
+ * Not part of the regular test run; start it explicitly with
+ * {@code mvn test -Dtest=MovieInsertBenchmark [-Dbenchmark.movies=20000]}.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:sqlite:target/movie-insert-benchmark.db",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false"
+})
+class MovieInsertBenchmark {
+
+    private static final int BATCH = 1000;
+
+    @Autowired
+    private MovieRepository movieRepository;
+    @Autowired
+    private ActorRepository actorRepository;
+    @Autowired
+    private GenreRepository genreRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void insertThroughput() {
+        int total = Integer.getInteger("benchmark.movies", 20_000);
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+        List<Genre> genres = new ArrayList<>();
+        List<Actor> actors = new ArrayList<>();
+        tx.executeWithoutResult(status -> {
+            for (int i = 0; i < 6; i++) {
+                Genre genre = new Genre();
+                genre.setName("Genre " + i);
+                genres.add(genreRepository.save(genre));
+            }
+            for (int i = 0; i < 50; i++) {
+                Actor actor = new Actor();
+                actor.setName("Actor " + i);
+                actor.setBirthDate(LocalDate.of(1950 + i, 1, 1));
+                actors.add(actorRepository.save(actor));
+            }
+        });
+
+        long start = System.nanoTime();
+        for (int done = 0; done < total; done += BATCH) {
+            int offset = done;
+            tx.executeWithoutResult(status -> {
+                List<Movie> movies = new ArrayList<>(BATCH);
+                for (int i = offset; i < offset + BATCH; i++) {
+                    Movie movie = new Movie();
+                    movie.setTitle("Movie " + i);
+                    movie.setReleaseYear(1950 + i % 75);
+                    movie.setDuration(80 + i % 100);
+                    movie.setGenres(new LinkedHashSet<>(List.of(genres.get(i % genres.size()))));
+                    movie.setActors(new LinkedHashSet<>(List.of(actors.get(i % actors.size()), actors.get((i + 7) % actors.size()))));
+                    movies.add(movie);
+                }
+                movieRepository.saveAll(movies);
+            });
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("Inserted %,d movies (+%,d link rows) in %.2f s: %,.0f movies/s%n",
+                total, total * 3, seconds, total / seconds);
+    }
+}
@@ -0,0 +1,114 @@
+package com.kood.movieapi.repository;
+
+import com.kood.movieapi.config.SQLiteSchemaMigrator;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Compares the old LIKE '%...%' title search with the movie_fts index on a generated
+ * catalog. Not part of the regular test run; start it explicitly with
+ * {@code mvn test -Dtest=TitleSearchBenchmark [-Dbenchmark.titles=1000000]}.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TitleSearchBenchmark {
+
+    private static final String[] WORDS = {
+            "speed", "rush", "city", "hope", "laugh", "loud", "starlight", "odyssey", "silent", "witness",
+            "hearts", "paris", "neon", "skies", "courtroom", "echoes", "metro", "mayhem", "galaxy", "drift",
+            "midnight", "harbor", "crimson", "tide", "frozen", "empire", "last", "summer", "broken", "arrow",
+            "golden", "river", "shadow", "protocol", "desert", "storm", "lost", "kingdom", "iron", "garden"
+    };
+    private static final List<String> QUERIES = List.of("star", "galaxy drift", "neon", "mid", "lost kingdom", "iron garden");
+    private static final int ROUNDS = 5;
+
+    private Path dbFile;
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    void generateCatalog() throws Exception {
+        int titles = Integer.getInteger("benchmark.titles", 1_000_000);
+        dbFile = Files.createTempFile("title-search-benchmark", ".db");
+        dataSource = new SingleConnectionDataSource("jdbc:sqlite:" + dbFile, true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table movie (id integer, duration integer not null, release_date date, "
+                + "release_year integer not null, title varchar(255) not null, primary key (id))");
+        jdbcTemplate.execute("create table actor (id integer, birth_date date, name varchar(255) not null, primary key (id))");
+
+        Random random = new Random(42);
+        Connection con = dataSource.getConnection();
+        con.setAutoCommit(false);
+        try (PreparedStatement ps = con.prepareStatement(
+                "insert into movie (id, duration, release_year, title) values (?, ?, ?, ?)")) {
+            for (int i = 1; i <= titles; i++) {
+                ps.setLong(1, i);
+                ps.setInt(2, 80 + random.nextInt(100));
+                ps.setInt(3, 1950 + random.nextInt(75));
+                ps.setString(4, randomTitle(random));
+                ps.addBatch();
+                if (i % 10_000 == 0) ps.executeBatch();
+            }
+            ps.executeBatch();
+        }
+        con.commit();
+        con.setAutoCommit(true);
+
+        long start = System.nanoTime();
+        new SQLiteSchemaMigrator(jdbcTemplate).run();
+        System.out.printf("Indexed %,d titles in %d ms%n", titles, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @AfterAll
+    void cleanUp() throws Exception {
+        dataSource.destroy();
+        Files.deleteIfExists(dbFile);
+    }
+
+    @Test
+    void likeScanVersusFullTextIndex() {
+        for (String query : QUERIES) {
+            double like = averageMillis(() -> {
+                String pattern = "%" + query.toLowerCase() + "%";
+                jdbcTemplate.queryForList("select id from movie where lower(title) like ? order by id limit 10", Long.class, pattern);
+                jdbcTemplate.queryForObject("select count(id) from movie where lower(title) like ?", Long.class, pattern);
+            });
+            double fts = averageMillis(() -> {
+                String match = query.replaceAll("(\\S+)", "\"$1\"*");
+                jdbcTemplate.queryForList("select rowid from movie_fts where movie_fts match ? order by rank, rowid limit 10", Long.class, match);
+                jdbcTemplate.queryForObject("select count(*) from movie_fts where movie_fts match ?", Long.class, match);
+            });
+            System.out.printf("%-14s LIKE %8.2f ms   FTS5 %8.2f ms   (%.1fx)%n", "'" + query + "'", like, fts, like / fts);
+        }
+    }
+
+    private double averageMillis(Runnable search) {
+        search.run();
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            search.run();
+        }
+        return (System.nanoTime() - start) / 1_000_000.0 / ROUNDS;
+    }
+
+    private static String randomTitle(Random random) {
+        int words = 1 + random.nextInt(3);
+        StringBuilder title = new StringBuilder();
+        for (int w = 0; w < words; w++) {
+            if (w > 0) title.append(' ');
+            String word = WORDS[random.nextInt(WORDS.length)];
+            title.append(Character.toUpperCase(word.charAt(0))).append(word.substring(1));
+        }
+        return title.append(' ').append(random.nextInt(1000)).toString();
+    }
+}
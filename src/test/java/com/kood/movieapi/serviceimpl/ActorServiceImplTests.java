@@ -0,0 +1,31 @@
+package com.kood.movieapi.serviceimpl;
+
+import com.kood.movieapi.entity.Actor;
+import com.kood.movieapi.service.ActorService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ActorServiceImplTests extends CatalogTestSupport {
+
+    @Autowired
+    private ActorService actorService;
+
+    @Test
+    void actorListingsAndNameSearchArePaged() {
+        Page<Actor> actors = actorService.getAllActors(PageRequest.of(0, 2));
+        Page<Actor> found = actorService.actorsByName("actor", PageRequest.of(2, 2));
+
+        assertThat(actors.getTotalElements()).isEqualTo(ACTOR_COUNT);
+        assertThat(actors.getContent()).extracting(Actor::getName).containsExactly("Actor 0", "Actor 1");
+        assertThat(found.getTotalElements()).isEqualTo(ACTOR_COUNT);
+        assertThat(found.getContent()).hasSize(1);
+        assertThatThrownBy(() -> actorService.getAllActors(PageRequest.of(0, 2, Sort.by("name"))))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
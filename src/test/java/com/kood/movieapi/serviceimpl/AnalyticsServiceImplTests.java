@@ -0,0 +1,66 @@
+package com.kood.movieapi.serviceimpl;
+
+import com.kood.movieapi.dto.AnalyticsGroupBy;
+import com.kood.movieapi.dto.AnalyticsResult;
+import com.kood.movieapi.dto.MovieFilter;
+import com.kood.movieapi.entity.Actor;
+import com.kood.movieapi.entity.Genre;
+import com.kood.movieapi.entity.Movie;
+import com.kood.movieapi.service.MovieService;
+import com.kood.movieapi.service.ResourceVersionService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AnalyticsServiceImplTests extends CatalogTestSupport {
+
+    @Autowired
+    private MovieService movieService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private ResourceVersionService resourceVersionService;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void analyticsSnapshotAgreesWithTheCatalog() {
+        AnalyticsServiceImpl analytics = new AnalyticsServiceImpl(jdbcTemplate, resourceVersionService,
+                transactionManager, true, "target");
+        List<Long> genreIds = genreRepository.findAll(Sort.by("id")).stream().map(Genre::getId).toList();
+        List<Long> actorIds = actorRepository.findAll(Sort.by("id")).stream().map(Actor::getId).toList();
+        MovieFilter filter = new MovieFilter(List.of(genreIds.get(0)), MovieFilter.Match.ANY, null, null,
+                1992, 1997, 100, null);
+        List<Movie> expected = movieService.findMovies(filter, PageRequest.of(0, MOVIE_COUNT)).getContent();
+
+        AnalyticsResult result = analytics.movies(filter, AnalyticsGroupBy.ACTOR, 2);
+        assertThat(result.movieCount()).isEqualTo(expected.size());
+        assertThat(result.averageDuration())
+                .isEqualTo(expected.stream().mapToInt(Movie::getDuration).average().orElseThrow());
+        Map<Long, Long> perActor = new HashMap<>();
+        expected.forEach(m -> m.getActors().forEach(a -> perActor.merge(a.getId(), 1L, Long::sum)));
+        assertThat(result.groups()).hasSize(2).allSatisfy(group -> {
+            assertThat(group.movieCount()).isEqualTo(perActor.get(group.key()));
+            assertThat(group.name()).startsWith("Actor ");
+        });
+        assertThat(result.groups().get(0).movieCount()).isEqualTo(perActor.values().stream().max(Long::compare).orElseThrow());
+
+        MovieFilter both = new MovieFilter(null, null, actorIds.subList(0, 2), MovieFilter.Match.ALL, null, null, null, null);
+        assertThat(analytics.movies(both, AnalyticsGroupBy.YEAR, 10).movieCount())
+                .isEqualTo(movieService.findMovies(both, PageRequest.of(0, 1)).getTotalElements());
+
+        // Writes show up once the snapshot is refreshed for the new catalog version.
+        movieService.patchMovie(expected.get(0).getId(), Map.of("duration", 10));
+        analytics.refreshIfChanged();
+        assertThat(analytics.movies(filter, AnalyticsGroupBy.NONE, 10).movieCount()).isEqualTo(expected.size() - 1);
+    }
+}
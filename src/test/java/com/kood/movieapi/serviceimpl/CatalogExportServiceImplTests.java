@@ -0,0 +1,80 @@
+package com.kood.movieapi.serviceimpl;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kood.movieapi.dto.ExportFormat;
+import com.kood.movieapi.entity.Movie;
+import com.kood.movieapi.service.ActorService;
+import com.kood.movieapi.service.CatalogExportService;
+import com.kood.movieapi.service.MovieService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CatalogExportServiceImplTests extends CatalogTestSupport {
+
+    @Autowired
+    private CatalogExportService catalogExportService;
+    @Autowired
+    private MovieService movieService;
+    @Autowired
+    private ActorService actorService;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void exportStreamsMoviesInTheirApiShape() throws Exception {
+        Long removed = actorRepository.findAll(Sort.by("id")).get(0).getId();
+        actorService.deleteActor(removed, true);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        catalogExportService.exportMovies(out, ExportFormat.NDJSON);
+
+        List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(lines).hasSize(MOVIE_COUNT);
+        for (String line : lines) {
+            JsonNode exported = objectMapper.readTree(line);
+            Movie movie = movieService.getMovieById(exported.get("id").asLong());
+            assertThat(exported).isEqualTo(objectMapper.readTree(objectMapper.writeValueAsString(movie)));
+        }
+
+        out.reset();
+        catalogExportService.exportGenres(out, ExportFormat.JSON);
+        assertThat(objectMapper.readTree(out.toByteArray())).hasSize(GENRE_COUNT);
+    }
+
+    @Test
+    void failedJsonExportIsNotClosedAsAValidArray() {
+        jdbcTemplate.update("""
+                WITH RECURSIVE n(i) AS (SELECT 1 UNION ALL SELECT i + 1 FROM n WHERE i < 1500)
+                INSERT INTO actor (id, name) SELECT 100000 + i, 'Extra ' || i FROM n""");
+        // Fails the periodic flush after the first thousand rows, between two rows.
+        ByteArrayOutputStream out = new ByteArrayOutputStream() {
+            private boolean failed;
+
+            @Override
+            public void flush() throws IOException {
+                if (!failed) {
+                    failed = true;
+                    throw new IOException("Connection reset");
+                }
+            }
+        };
+
+        assertThatThrownBy(() -> catalogExportService.exportActors(out, ExportFormat.JSON))
+                .isInstanceOf(UncheckedIOException.class);
+        assertThat(out.toString(StandardCharsets.UTF_8)).startsWith("[").doesNotEndWith("]");
+        assertThatThrownBy(() -> objectMapper.readTree(out.toByteArray())).isInstanceOf(IOException.class);
+    }
+}
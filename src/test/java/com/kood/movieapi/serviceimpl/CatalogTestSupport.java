@@ -0,0 +1,79 @@
+package com.kood.movieapi.serviceimpl;
+
+import com.kood.movieapi.entity.Actor;
+import com.kood.movieapi.entity.Genre;
+import com.kood.movieapi.entity.Movie;
+import com.kood.movieapi.repository.ActorRepository;
+import com.kood.movieapi.repository.GenreRepository;
+import com.kood.movieapi.repository.MovieRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+// Base for the service tests: one shared application context, and a catalog that is emptied,
+// uncached and reseeded before each test. The default catalog is movie i: genre i % 3,
+// actors i % 5 and (i + 1) % 5, year 1990 + i % 10, duration 90 + i. Override seed() for
+// other data.
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:sqlite:target/movie-service-tests.db",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+abstract class CatalogTestSupport {
+
+    static final int MOVIE_COUNT = 60;
+    static final int ACTOR_COUNT = 5;
+    static final int GENRE_COUNT = 3;
+
+    @Autowired
+    protected MovieRepository movieRepository;
+    @Autowired
+    protected ActorRepository actorRepository;
+    @Autowired
+    protected GenreRepository genreRepository;
+    @Autowired
+    protected CacheManager cacheManager;
+
+    @BeforeEach
+    void resetCatalog() {
+        movieRepository.deleteAll();
+        actorRepository.deleteAll();
+        genreRepository.deleteAll();
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        seed();
+    }
+
+    protected void seed() {
+        List<Genre> genres = new ArrayList<>();
+        for (int i = 0; i < GENRE_COUNT; i++) {
+            Genre genre = new Genre();
+            genre.setName("Genre " + i);
+            genres.add(genreRepository.save(genre));
+        }
+        List<Actor> actors = new ArrayList<>();
+        for (int i = 0; i < ACTOR_COUNT; i++) {
+            Actor actor = new Actor();
+            actor.setName("Actor " + i);
+            actor.setBirthDate(LocalDate.of(1970 + i, 1, 1));
+            actors.add(actorRepository.save(actor));
+        }
+        List<Movie> movies = new ArrayList<>();
+        for (int i = 0; i < MOVIE_COUNT; i++) {
+            Movie movie = new Movie();
+            movie.setTitle("Movie " + i);
+            movie.setReleaseYear(1990 + i % 10);
+            movie.setDuration(90 + i);
+            movie.setGenres(new LinkedHashSet<>(List.of(genres.get(i % genres.size()))));
+            movie.setActors(new LinkedHashSet<>(List.of(actors.get(i % actors.size()), actors.get((i + 1) % actors.size()))));
+            movies.add(movie);
+        }
+        movieRepository.saveAll(movies);
+    }
+}
@@ -0,0 +1,89 @@
+package com.kood.movieapi.serviceimpl;
+
+import com.kood.movieapi.dto.ActorSummary;
+import com.kood.movieapi.dto.CoStar;
+import com.kood.movieapi.dto.CollaborationPath;
+import com.kood.movieapi.dto.SimilarMovie;
+import com.kood.movieapi.entity.Actor;
+import com.kood.movieapi.service.CoStarService;
+import com.kood.movieapi.service.MovieService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class CoStarServiceImplTests extends CatalogTestSupport {
+
+    @Autowired
+    private CoStarService coStarService;
+    @Autowired
+    private MovieService movieService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void coStarGraphAgreesWithTheLinksAndFollowsWrites() {
+        List<Long> actorIds = actorRepository.findAll(Sort.by("id")).stream().map(Actor::getId).toList();
+        Long actor = actorIds.get(0);
+        assertThat(coStarCounts(coStarService.coStars(actor, 10))).isEqualTo(coStarCountsFromLinks(actor));
+
+        CollaborationPath path = coStarService.path(actor, actorIds.get(2));
+        assertThat(path.degrees()).isEqualTo(2);
+        assertThat(path.actors()).extracting(ActorSummary::id).startsWith(actor).endsWith(actorIds.get(2));
+        for (int i = 0; i < path.degrees(); i++) {
+            assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM movie_actor WHERE movie_id = ? AND actor_id IN (?, ?)",
+                    Integer.class, path.movies().get(i).id(), path.actors().get(i).id(), path.actors().get(i + 1).id()))
+                    .isEqualTo(2);
+        }
+
+        // Brute-force Jaccard over every movie's actor and genre links.
+        Map<Long, Set<String>> features = new HashMap<>();
+        jdbcTemplate.query("SELECT movie_id, 'a' || actor_id FROM movie_actor UNION ALL SELECT movie_id, 'g' || genre_id FROM movie_genre",
+                rs -> { features.computeIfAbsent(rs.getLong(1), k -> new HashSet<>()).add(rs.getString(2)); });
+        Long movieId = features.keySet().stream().min(Long::compare).orElseThrow();
+        double best = features.entrySet().stream()
+                .filter(e -> !e.getKey().equals(movieId))
+                .mapToDouble(e -> {
+                    Set<String> shared = new HashSet<>(e.getValue());
+                    shared.retainAll(features.get(movieId));
+                    Set<String> union = new HashSet<>(e.getValue());
+                    union.addAll(features.get(movieId));
+                    return shared.size() / (double) union.size();
+                }).max().orElseThrow();
+        List<SimilarMovie> similar = coStarService.similarMovies(movieId, 5);
+        assertThat(similar).hasSize(5);
+        assertThat(similar.get(0).score()).isCloseTo(best, within(1e-6));
+        assertThat(similar).extracting(SimilarMovie::score).isSortedAccordingTo(Comparator.reverseOrder());
+
+        // A committed relink is applied to the loaded graph.
+        Long relinked = movieRepository.findIdsByActorId(actor).get(0);
+        movieService.patchMovie(relinked, Map.of("actors", List.of(Map.of("id", actorIds.get(3)))));
+        assertThat(coStarCounts(coStarService.coStars(actor, 10))).isEqualTo(coStarCountsFromLinks(actor));
+    }
+
+    private static Map<Long, Long> coStarCounts(List<CoStar> coStars) {
+        Map<Long, Long> counts = new HashMap<>();
+        coStars.forEach(c -> counts.put(c.actorId(), c.sharedMovies()));
+        return counts;
+    }
+
+    private Map<Long, Long> coStarCountsFromLinks(Long actorId) {
+        Map<Long, Long> counts = new HashMap<>();
+        jdbcTemplate.query("""
+                SELECT b.actor_id, count(*) FROM movie_actor a
+                  JOIN movie_actor b ON b.movie_id = a.movie_id AND b.actor_id <> a.actor_id
+                 WHERE a.actor_id = ? GROUP BY b.actor_id
+                """, rs -> { counts.put(rs.getLong(1), rs.getLong(2)); }, actorId);
+        return counts;
+    }
+}
@@ -0,0 +1,26 @@
+package com.kood.movieapi.serviceimpl;
+
+import com.kood.movieapi.entity.Movie;
+import com.kood.movieapi.service.GenreService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GenreServiceImplTests extends CatalogTestSupport {
+
+    @Autowired
+    private GenreService genreService;
+
+    @Test
+    void genreMoviesArePagedWithTheirActors() {
+        Long genreId = genreRepository.findAll(Sort.by("id")).get(0).getId();
+        Page<Movie> genreMovies = genreService.moviesInGenre(genreId, PageRequest.of(1, 8));
+
+        assertThat(genreMovies.getTotalElements()).isEqualTo(20);
+        assertThat(genreMovies.getContent()).hasSize(8).allSatisfy(m -> assertThat(m.getActors()).hasSize(2));
+    }
+}
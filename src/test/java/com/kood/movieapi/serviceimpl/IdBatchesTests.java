@@ -0,0 +1,83 @@
+package com.kood.movieapi.serviceimpl;
+
+import com.kood.movieapi.dto.BatchGetRequest;
+import com.kood.movieapi.dto.BatchGetResult;
+import com.kood.movieapi.entity.Actor;
+import com.kood.movieapi.entity.Genre;
+import com.kood.movieapi.entity.Movie;
+import com.kood.movieapi.service.ActorService;
+import com.kood.movieapi.service.GenreService;
+import com.kood.movieapi.service.MovieService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IdBatchesTests extends CatalogTestSupport {
+
+    @Autowired
+    private MovieService movieService;
+    @Autowired
+    private ActorService actorService;
+    @Autowired
+    private GenreService genreService;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void batchReadChunksIdsAndReportsMissingOnesInRequestOrder() {
+        List<Long> existing = movieRepository.findAll(Sort.by("id")).stream().map(Movie::getId).toList();
+        long max = existing.get(existing.size() - 1);
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            ids.add(max + 1 + i);
+            if (i < existing.size()) ids.add(existing.get(existing.size() - 1 - i));
+        }
+        ids.add(existing.get(0));
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        BatchGetResult<Movie> result = BatchGetResult.of(ids, movieService.getMoviesByIds(ids), "Movie");
+
+        // 1060 distinct ids: three IN chunks, each fetching actors and genres in one statement apiece.
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(6);
+        assertThat(result.requested()).isEqualTo(1061);
+        assertThat(result.found()).isEqualTo(MOVIE_COUNT + 1);
+        assertThat(result.items()).extracting(BatchGetResult.Item::id).containsExactlyElementsOf(ids);
+        assertThat(result.items().get(0).error()).isEqualTo("Movie not found with id " + (max + 1));
+        assertThat(result.items().get(1).value().getActors()).hasSize(2);
+
+        List<Long> deduped = new BatchGetRequest(List.of(existing.get(0), existing.get(0), existing.get(1)), true).requestedIds();
+        movieService.getMovieById(existing.get(1));
+        statistics.clear();
+        assertThat(movieService.getMoviesByIds(deduped)).containsOnlyKeys(existing.get(0), existing.get(1));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThatThrownBy(() -> new BatchGetRequest(List.of(), false).requestedIds())
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void actorAndGenreBatchesServeCachedIdsFromMemory() {
+        List<Long> actorIds = actorRepository.findAll(Sort.by("id")).stream().map(Actor::getId).toList();
+        List<Long> genreIds = genreRepository.findAll(Sort.by("id")).stream().map(Genre::getId).toList();
+        actorService.getActorById(actorIds.get(0));
+        genreService.getGenreById(genreIds.get(0));
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<Long> requested = List.of(actorIds.get(0), actorIds.get(1), -1L);
+        assertThat(actorService.getActorsByIds(requested)).containsOnlyKeys(actorIds.get(0), actorIds.get(1));
+        assertThat(genreService.getGenresByIds(List.of(genreIds.get(0)))).containsOnlyKeys(genreIds.get(0));
+
+        // One IN query for the two uncached actor ids; the cached actor and genre are not read.
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
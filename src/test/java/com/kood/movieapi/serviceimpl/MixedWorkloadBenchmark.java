@@ -0,0 +1,110 @@
+package com.kood.movieapi.serviceimpl;
+
+import com.kood.movieapi.dto.ImportResult;
+import com.kood.movieapi.service.MovieImportService;
+import com.kood.movieapi.service.MovieService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Concurrent readers (paged listings and title search) against a stream of PATCH writers.
+ * Reports read and write throughput plus failed operations (e.g. SQLITE_BUSY).
+ * Not part of the regular test run; start it explicitly with
+ * {@code mvn test -Dtest=MixedWorkloadBenchmark [-Dbenchmark.readers=8 -Dbenchmark.writers=2 -Dbenchmark.seconds=10]}.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:sqlite:target/mixed-workload-benchmark.db",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "logging.level.com.kood.movieapi=INFO"
+})
+class MixedWorkloadBenchmark {
+
+    private static final int MOVIES = 20_000;
+
+    @Autowired
+    private MovieService movieService;
+    @Autowired
+    private MovieImportService movieImportService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void readThroughputUnderConcurrentWrites() throws Exception {
+        int readers = Integer.getInteger("benchmark.readers", 8);
+        int writers = Integer.getInteger("benchmark.writers", 2);
+        int seconds = Integer.getInteger("benchmark.seconds", 10);
+        seedCatalog();
+
+        AtomicLong reads = new AtomicLong();
+        AtomicLong writes = new AtomicLong();
+        AtomicLong failures = new AtomicLong();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        ExecutorService pool = Executors.newFixedThreadPool(readers + writers);
+        for (int r = 0; r < readers; r++) {
+            pool.submit(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                while (System.nanoTime() < deadline) {
+                    try {
+                        if (random.nextBoolean()) {
+                            movieService.getAllMovies(PageRequest.of(random.nextInt(100), 20));
+                        } else {
+                            movieService.searchMoviesByTitle("movie " + random.nextInt(100), PageRequest.of(0, 20));
+                        }
+                        reads.incrementAndGet();
+                    } catch (RuntimeException ex) {
+                        failures.incrementAndGet();
+                    }
+                }
+            });
+        }
+        for (int w = 0; w < writers; w++) {
+            pool.submit(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                while (System.nanoTime() < deadline) {
+                    try {
+                        long id = 1 + random.nextInt(MOVIES);
+                        movieService.patchMovie(id, Map.of("duration", 80 + random.nextInt(100)));
+                        writes.incrementAndGet();
+                    } catch (RuntimeException ex) {
+                        failures.incrementAndGet();
+                    }
+                }
+            });
+        }
+        pool.shutdown();
+        pool.awaitTermination(seconds + 60L, TimeUnit.SECONDS);
+
+        System.out.printf("readers=%d writers=%d: %,.0f reads/s, %,.0f writes/s, %d failed%n",
+                readers, writers, reads.get() / (double) seconds, writes.get() / (double) seconds, failures.get());
+    }
+
+    private void seedCatalog() throws Exception {
+        jdbcTemplate.update("INSERT INTO genre (id, name) VALUES (1, 'Drama')");
+        jdbcTemplate.update("INSERT INTO actor (id, name) VALUES (1, 'Actor')");
+        List<String> records = new ArrayList<>(MOVIES);
+        for (int i = 0; i < MOVIES; i++) {
+            records.add("{\"title\":\"Movie " + i + "\",\"releaseYear\":" + (1950 + i % 75)
+                    + ",\"duration\":100,\"genres\":[{\"id\":1}],\"actors\":[{\"id\":1}]}");
+        }
+        String json = "[" + String.join(",", records) + "]";
+        ImportResult result = movieImportService.importMovies(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+        if (result.imported() != MOVIES) {
+            throw new IllegalStateException("Seeding failed: " + result.errors());
+        }
+    }
+}
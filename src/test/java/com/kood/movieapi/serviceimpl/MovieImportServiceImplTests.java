@@ -0,0 +1,66 @@
+package com.kood.movieapi.serviceimpl;
+
+import com.kood.movieapi.dto.ImportResult;
+import com.kood.movieapi.entity.Actor;
+import com.kood.movieapi.entity.Genre;
+import com.kood.movieapi.entity.Movie;
+import com.kood.movieapi.service.MovieImportService;
+import com.kood.movieapi.service.MovieService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MovieImportServiceImplTests extends CatalogTestSupport {
+
+    @Autowired
+    private MovieImportService movieImportService;
+    @Autowired
+    private MovieService movieService;
+
+    private Genre genre;
+    private Actor actor;
+
+    @Override
+    protected void seed() {
+        genre = new Genre();
+        genre.setName("Action");
+        genre = genreRepository.save(genre);
+        actor = new Actor();
+        actor.setName("Keanu Reeves");
+        actor.setBirthDate(LocalDate.of(1964, 9, 2));
+        actor = actorRepository.save(actor);
+    }
+
+    @Test
+    void importsValidRecordsAndReportsInvalidOnes() throws Exception {
+        String json = """
+                [
+                  { "title": "Speed Rush", "releaseYear": 1994, "duration": 116,
+                    "genres": [ { "id": %1$d } ], "actors": [ { "id": %2$d } ] },
+                  { "title": "", "releaseYear": 1995, "duration": 128 },
+                  { "title": "Unknown Genre", "releaseYear": 1996, "duration": 90, "genres": [ { "id": 999 } ] },
+                  { "title": "Metro Mayhem", "releaseYear": 2007, "duration": 109, "actors": [ { "id": %2$d } ] }
+                ]
+                """.formatted(genre.getId(), actor.getId());
+
+        ImportResult result = movieImportService.importMovies(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(result.received()).isEqualTo(4);
+        assertThat(result.imported()).isEqualTo(2);
+        assertThat(result.failed()).isEqualTo(2);
+        assertThat(result.errors()).extracting(ImportResult.ImportError::index).containsExactly(1L, 2L);
+
+        assertThat(movieService.moviesByActor(actor.getId(), PageRequest.of(0, 10)).getContent())
+                .extracting(Movie::getTitle)
+                .containsExactlyInAnyOrder("Speed Rush", "Metro Mayhem");
+        assertThat(movieService.searchMoviesByTitle("speed", PageRequest.of(0, 10)).getContent())
+                .singleElement()
+                .satisfies(m -> assertThat(m.getGenres()).extracting(Genre::getId).containsExactly(genre.getId()));
+    }
+}
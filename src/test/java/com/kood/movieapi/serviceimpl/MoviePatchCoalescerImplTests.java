@@ -0,0 +1,55 @@
+package com.kood.movieapi.serviceimpl;
+
+import com.kood.movieapi.entity.Movie;
+import com.kood.movieapi.service.MovieService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MoviePatchCoalescerImplTests extends CatalogTestSupport {
+
+    @Autowired
+    private MovieService movieService;
+
+    @Test
+    void coalescedPatchesCommitTogetherAndFailOnlyTheirOwnCaller() throws Exception {
+        List<Long> ids = movieRepository.findAll(Sort.by("id")).stream().map(Movie::getId).limit(2).toList();
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        MoviePatchCoalescerImpl coalescer = new MoviePatchCoalescerImpl(movieService, registry, true, 200, 256, 30_000);
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Movie>> patches = new ArrayList<>();
+            for (int i = 0; i < 6; i++) {
+                int duration = 200 + i;
+                patches.add(callers.submit(() -> coalescer.patchMovie(ids.get(0), Map.of("duration", duration))));
+            }
+            patches.add(callers.submit(() -> coalescer.patchMovie(ids.get(1), Map.of("title", "Renamed"))));
+            Future<Movie> invalid = callers.submit(() -> coalescer.patchMovie(ids.get(1), Map.of("duration", "long")));
+
+            for (Future<Movie> patch : patches) {
+                assertThat(patch.get(10, TimeUnit.SECONDS)).isNotNull();
+            }
+            assertThatThrownBy(() -> invalid.get(10, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalArgumentException.class);
+        } finally {
+            callers.shutdown();
+            coalescer.destroy();
+        }
+
+        // Committed by the time the callers return, and visible through the cache.
+        assertThat(movieService.getMovieById(ids.get(0)).getDuration()).isBetween(200, 205);
+        assertThat(movieService.getMovieById(ids.get(1)).getTitle()).isEqualTo("Renamed");
+        assertThat(registry.get("movieapi.patch.batch.size").summary().max()).isGreaterThan(1.0);
+    }
+}
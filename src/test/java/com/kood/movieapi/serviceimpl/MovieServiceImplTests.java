@@ -0,0 +1,242 @@
+package com.kood.movieapi.serviceimpl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kood.movieapi.dto.ActorSummary;
+import com.kood.movieapi.dto.FieldSelection;
+import com.kood.movieapi.dto.MovieFilter;
+import com.kood.movieapi.dto.MovieSummary;
+import com.kood.movieapi.entity.Actor;
+import com.kood.movieapi.entity.Genre;
+import com.kood.movieapi.entity.Movie;
+import com.kood.movieapi.pagination.CursorSlice;
+import com.kood.movieapi.service.ActorService;
+import com.kood.movieapi.service.MovieService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MovieServiceImplTests extends CatalogTestSupport {
+
+    @Autowired
+    private MovieService movieService;
+    @Autowired
+    private ActorService actorService;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void pagedListingUsesConstantStatementCountPerPage() throws Exception {
+        long small = statementsToListAndSerialize(5);
+        long medium = statementsToListAndSerialize(20);
+        long large = statementsToListAndSerialize(50);
+
+        assertThat(medium).isEqualTo(small);
+        assertThat(large).isEqualTo(small);
+    }
+
+    @Test
+    void pagedListingKeepsRequestedOrder() {
+        Page<Movie> page = movieService.getAllMovies(PageRequest.of(1, 10, Sort.by("title").descending()));
+
+        List<String> titles = page.getContent().stream().map(Movie::getTitle).toList();
+        assertThat(page.getTotalElements()).isEqualTo(MOVIE_COUNT);
+        assertThat(titles).hasSize(10).isSortedAccordingTo(Comparator.reverseOrder());
+        assertThat(page.getContent()).allSatisfy(m -> {
+            assertThat(m.getActors()).hasSize(2);
+            assertThat(m.getGenres()).hasSize(1);
+        });
+    }
+
+    @Test
+    void filtersCombineWithAnyAndAllMatching() {
+        // Movie i: genre i % 3, actors i % 5 and (i + 1) % 5, year 1990 + i % 10, duration 90 + i.
+        List<Long> genres = genreRepository.findAll(Sort.by("id")).stream().map(Genre::getId).toList();
+        List<Long> actors = actorRepository.findAll(Sort.by("id")).stream().map(Actor::getId).toList();
+        List<Long> firstTwoActors = actors.subList(0, 2);
+
+        MovieFilter any = new MovieFilter(null, null, firstTwoActors, MovieFilter.Match.ANY, null, null, null, null);
+        MovieFilter all = new MovieFilter(List.of(genres.get(0)), MovieFilter.Match.ANY,
+                firstTwoActors, MovieFilter.Match.ALL, 1990, 1995, null, 130);
+
+        assertThat(movieService.findMovies(any, PageRequest.of(0, 10)).getTotalElements()).isEqualTo(36);
+        assertThat(movieService.findMovies(all, PageRequest.of(0, 10, Sort.by("duration"))).getContent())
+                .extracting(Movie::getTitle)
+                .containsExactly("Movie 0", "Movie 15", "Movie 30");
+    }
+
+    @Test
+    void cursorListingWalksEveryMovieOnceInSortOrder() {
+        // 10 movies share each release year, so ties are broken by id across slice boundaries.
+        PageRequest request = PageRequest.of(0, 7, Sort.by("releaseYear").descending());
+        List<Movie> seen = new ArrayList<>();
+        String after = "";
+        Slice<Movie> slice;
+        do {
+            slice = movieService.moviesAfter(MovieFilter.none(), after, request);
+            seen.addAll(slice.getContent());
+            after = ((CursorSlice<Movie>) slice).getNextCursor();
+        } while (slice.hasNext());
+
+        assertThat(after).isNull();
+        assertThat(seen).extracting(Movie::getId).doesNotHaveDuplicates().hasSize(MOVIE_COUNT);
+        assertThat(seen).isSortedAccordingTo(Comparator.comparing(Movie::getReleaseYear).reversed()
+                .thenComparing(Movie::getId, Comparator.reverseOrder()));
+        assertThat(movieService.moviesAfter(MovieFilter.byYear(1995), "", PageRequest.of(0, 100)).getContent())
+                .hasSize(6)
+                .extracting(Movie::getReleaseYear).containsOnly(1995);
+    }
+
+    @Test
+    void titleSearchMatchesTokenPrefixesAcrossPages() {
+        Page<Movie> first = movieService.searchMoviesByTitle("movie 1", PageRequest.of(0, 8));
+        Page<Movie> second = movieService.searchMoviesByTitle("movie 1", PageRequest.of(1, 8));
+
+        assertThat(first.getTotalElements()).isEqualTo(11);
+        assertThat(first.getContent()).hasSize(8);
+        assertThat(second.getContent()).hasSize(3);
+        assertThat(first.getContent()).extracting(Movie::getTitle)
+                .allMatch(t -> t.equals("Movie 1") || t.startsWith("Movie 1"));
+        assertThat(movieService.searchMoviesByTitle("MOV", PageRequest.of(0, 5)).getTotalElements())
+                .isEqualTo(MOVIE_COUNT);
+    }
+
+    @Test
+    void forcedActorDeleteEvictsCachedMovies() {
+        Movie movie = movieRepository.findAll().get(0);
+        Movie cached = movieService.getMovieById(movie.getId());
+        assertThat(movieService.getMovieById(movie.getId())).isSameAs(cached);
+        Long actorId = cached.getActors().iterator().next().getId();
+
+        actorService.deleteActor(actorId, true);
+
+        Movie reloaded = movieService.getMovieById(movie.getId());
+        assertThat(reloaded).isNotSameAs(cached);
+        assertThat(reloaded.getActors()).extracting(Actor::getId).doesNotContain(actorId);
+    }
+
+    @Test
+    void bulkActorDeleteDetachesMoviesWithConstantStatementCount() {
+        List<Long> actorIds = actorRepository.findAll(Sort.by("id")).stream().map(Actor::getId).toList().subList(0, 2);
+        assertThatThrownBy(() -> actorService.deleteActors(actorIds, false))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("associated with 24 movies");
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        actorService.deleteActors(actorIds, true);
+
+        // Load actors, collect movie ids for eviction, delete links, delete actors.
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+        assertThat(movieRepository.count()).isEqualTo(MOVIE_COUNT);
+        assertThat(movieRepository.findIdsByActorIds(actorIds)).isEmpty();
+        assertThat(actorRepository.findAllById(actorIds)).isEmpty();
+    }
+
+    @Test
+    void castIsPagedWithoutLoadingTheCollection() {
+        Long movieId = movieRepository.findAll(Sort.by("id")).get(0).getId();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        Page<Actor> cast = movieService.actorsInMovie(movieId, PageRequest.of(0, 1, Sort.by("id").descending()));
+        assertThat(cast.getTotalElements()).isEqualTo(2);
+        assertThat(cast.getContent()).hasSize(1);
+        assertThat(statistics.getCollectionLoadCount()).isZero();
+    }
+
+    @Test
+    void patchingActorsWritesOnlyTheChangedLinks() {
+        Movie movie = movieService.getMovieById(movieRepository.findAll(Sort.by("id")).get(0).getId());
+        List<Long> actorIds = movie.getActors().stream().map(Actor::getId).toList();
+        Long kept = actorIds.get(0);
+        Long added = actorRepository.findAll(Sort.by("id")).stream()
+                .map(Actor::getId)
+                .filter(id -> !actorIds.contains(id))
+                .findFirst().orElseThrow();
+        long versionBefore = movieVersion(movie.getId());
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        movieService.patchMovie(movie.getId(), Map.of(
+                "actors", List.of(Map.of("id", kept), Map.of("id", added)),
+                "genres", movie.getGenres().stream().map(g -> Map.of("id", g.getId())).toList()));
+
+        // Load movie with actors, then genres, load the patched actors and genres,
+        // delete one link, insert one link.
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(6);
+        // Each movie_actor row written bumps the movie version once.
+        assertThat(movieVersion(movie.getId())).isEqualTo(versionBefore + 2);
+        assertThat(movieService.actorsInMovie(movie.getId(), PageRequest.of(0, 20))).extracting(Actor::getId)
+                .containsExactly(Math.min(kept, added), Math.max(kept, added));
+    }
+
+    @Test
+    void sparseListingsSelectColumnsWithoutLoadingEntities() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        Page<MovieSummary> page = movieService.findMovieSummaries(MovieFilter.byYear(1991),
+                FieldSelection.parse("title, releaseYear", MovieSummary.FIELDS), PageRequest.of(0, 4, Sort.by("title")));
+        Page<ActorSummary> actors = actorService.actorSummaries("actor", FieldSelection.parse("name", ActorSummary.FIELDS),
+                PageRequest.of(0, 20));
+
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(page.getTotalElements()).isEqualTo(6);
+        assertThat(page.getContent()).extracting(MovieSummary::title)
+                .containsExactly("Movie 1", "Movie 11", "Movie 21", "Movie 31");
+        assertThat(page.getContent()).allSatisfy(m -> {
+            assertThat(m.releaseYear()).isEqualTo(1991);
+            assertThat(m.id()).isNull();
+            assertThat(m.duration()).isNull();
+        });
+        assertThat(actors.getContent()).hasSize(5).allSatisfy(a -> assertThat(a.id()).isNull());
+
+        // Cursor slices select the id and sort key for the next cursor, but return only the requested fields.
+        List<String> seen = new ArrayList<>();
+        String after = "";
+        do {
+            CursorSlice<MovieSummary> slice = (CursorSlice<MovieSummary>) movieService.movieSummariesAfter(MovieFilter.none(),
+                    FieldSelection.parse("title", MovieSummary.FIELDS), after, PageRequest.of(0, 25, Sort.by("duration").descending()));
+            for (MovieSummary m : slice.getContent()) {
+                assertThat(m.id()).isNull();
+                assertThat(m.duration()).isNull();
+                seen.add(m.title());
+            }
+            after = slice.getNextCursor();
+        } while (after != null);
+        // Duration is 90 + i, so descending duration is descending i.
+        assertThat(seen).hasSize(MOVIE_COUNT).doesNotHaveDuplicates()
+                .startsWith("Movie 59", "Movie 58").endsWith("Movie 1", "Movie 0");
+    }
+
+    private long movieVersion(Long movieId) {
+        return jdbcTemplate.queryForObject("select version from movie where id = ?", Long.class, movieId);
+    }
+
+    private long statementsToListAndSerialize(int size) throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        Page<Movie> page = movieService.getAllMovies(PageRequest.of(0, size));
+        // Serializing outside of the service transaction fails on any uninitialized collection.
+        objectMapper.writeValueAsString(page.getContent());
+        assertThat(page.getContent()).hasSize(size);
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,59 @@
+package com.kood.movieapi.serviceimpl;
+
+import com.kood.movieapi.dto.ActorStats;
+import com.kood.movieapi.dto.CatalogTotals;
+import com.kood.movieapi.dto.GenreStats;
+import com.kood.movieapi.dto.YearStats;
+import com.kood.movieapi.entity.Genre;
+import com.kood.movieapi.entity.Movie;
+import com.kood.movieapi.service.ActorService;
+import com.kood.movieapi.service.MovieService;
+import com.kood.movieapi.service.StatsService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StatsServiceImplTests extends CatalogTestSupport {
+
+    @Autowired
+    private StatsService statsService;
+    @Autowired
+    private MovieService movieService;
+    @Autowired
+    private ActorService actorService;
+
+    @Test
+    void statisticsFollowWritesAndMatchARebuild() {
+        assertThat(statsService.totals()).isEqualTo(new CatalogTotals(MOVIE_COUNT, ACTOR_COUNT, GENRE_COUNT));
+        assertThat(statsService.genreStats()).extracting(GenreStats::movieCount).containsExactly(20L, 20L, 20L);
+        assertThat(statsService.genreStats().get(0).averageDuration()).isEqualTo(118.5);
+        assertThat(statsService.yearStats()).hasSize(10).allSatisfy(year -> assertThat(year.movieCount()).isEqualTo(6));
+
+        List<Movie> movies = movieRepository.findAll(Sort.by("id"));
+        List<Long> genreIds = genreRepository.findAll(Sort.by("id")).stream().map(Genre::getId).toList();
+        movieService.patchMovie(movies.get(0).getId(), Map.of("duration", 200, "releaseYear", 2024,
+                "genres", List.of(Map.of("id", genreIds.get(1)), Map.of("id", genreIds.get(2)))));
+        movieService.deleteMovie(movies.get(1).getId());
+        actorService.deleteActor(actorRepository.findAll(Sort.by("id")).get(0).getId(), true);
+
+        assertThat(statsService.totals()).isEqualTo(new CatalogTotals(MOVIE_COUNT - 1, ACTOR_COUNT - 1, GENRE_COUNT));
+        assertThat(statsService.yearStats()).contains(new YearStats(2024, 1), new YearStats(1990, 5));
+        List<GenreStats> genres = statsService.genreStats();
+        List<YearStats> years = statsService.yearStats();
+        List<ActorStats> topActors = statsService.topActors(10);
+        assertThat(topActors).hasSize(ACTOR_COUNT - 1).isSortedAccordingTo(
+                Comparator.comparingLong(ActorStats::movieCount).reversed().thenComparing(ActorStats::actorId));
+
+        statsService.rebuild();
+
+        assertThat(statsService.genreStats()).isEqualTo(genres);
+        assertThat(statsService.yearStats()).isEqualTo(years);
+        assertThat(statsService.topActors(10)).isEqualTo(topActors);
+    }
+}